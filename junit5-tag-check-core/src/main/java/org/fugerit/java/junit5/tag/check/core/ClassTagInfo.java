@@ -0,0 +1,48 @@
+package org.fugerit.java.junit5.tag.check.core;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tags declared on a single test class, as found without loading the class (no inheritance resolution).
+ */
+public class ClassTagInfo {
+
+    private final String className;
+
+    private final String superClassName;
+
+    private final List<String> classTags;
+
+    private final Map<String, List<String>> methodTags;
+
+    /**
+     * @param className         binary name of the class
+     * @param superClassName    binary name of the super class (null for java.lang.Object)
+     * @param classTags         tags declared on the class
+     * @param methodTags        tags declared on each method of the class (methods without tags have an empty list)
+     */
+    public ClassTagInfo(String className, String superClassName, List<String> classTags, Map<String, List<String>> methodTags) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.classTags = classTags;
+        this.methodTags = methodTags;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    public List<String> getClassTags() {
+        return classTags;
+    }
+
+    public Map<String, List<String>> getMethodTags() {
+        return methodTags;
+    }
+
+}
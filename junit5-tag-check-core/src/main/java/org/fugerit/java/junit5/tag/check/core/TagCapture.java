@@ -0,0 +1,131 @@
+package org.fugerit.java.junit5.tag.check.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+
+/**
+ * Compact capture file, written at test run time by TagCaptureListener (junit5-tag-check-listener).
+ *
+ * Text format (UTF-8), one line for each finished test :
+ * <pre>
+ * # junit5-tag-check capture v1
+ * [engine:junit-jupiter]/[class:org.example.MyTest]/[method:test()]	org.example.MyTest	test	passed	1250	tag1,tag2
+ * </pre>
+ *
+ * Fields are unique id, class name, method name, status, duration (microseconds) and tags, separated by a tab.
+ * Backslash, tab and line breaks in the fields are escaped.
+ * (JUnit tags cannot contain whitespaces or commas).
+ *
+ * Only JDK and JUnit Platform classes are used, as this runs in the test JVM.
+ */
+public class TagCapture {
+
+    private TagCapture() {}
+
+    public static final String HEADER = "# junit5-tag-check capture v1";
+
+    public static final String FILE_SUFFIX = ".tsv";
+
+    public static final String STATUS_PASSED = "passed";
+
+    public static final String STATUS_FAILED = "failed";
+
+    public static final String STATUS_ERROR = "error";
+
+    public static final String STATUS_SKIPPED = "skipped";
+
+    public static final int FIELD_UNIQUE_ID = 0;
+
+    public static final int FIELD_CLASS = 1;
+
+    public static final int FIELD_METHOD = 2;
+
+    public static final int FIELD_STATUS = 3;
+
+    public static final int FIELD_DURATION = 4;
+
+    public static final int FIELD_TAGS = 5;
+
+    private static final int FIELD_COUNT = 6;
+
+    private static final char SEPARATOR = '\t';
+
+    public static final String TAG_SEPARATOR = ",";
+
+    public static void writeHeader(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    public static void writeLine(Writer writer, String uniqueId, String className, String methodName,
+                                 String status, long durationMicros, Collection<String> tags) throws IOException {
+        StringBuilder line = new StringBuilder();
+        escape(line, uniqueId);
+        line.append(SEPARATOR);
+        escape(line, className);
+        line.append(SEPARATOR);
+        escape(line, methodName);
+        line.append(SEPARATOR);
+        line.append(status);
+        line.append(SEPARATOR);
+        line.append(durationMicros);
+        line.append(SEPARATOR);
+        line.append(String.join(TAG_SEPARATOR, tags));
+        line.append('\n');
+        writer.write(line.toString());
+    }
+
+    /**
+     * Splits and unescapes a capture line.
+     *
+     * @param line  the line
+     * @return the fields, or null if the line is not a valid capture line (header, blank or truncated line)
+     */
+    public static String[] readLine(String line) {
+        String[] fields = line.split(String.valueOf(SEPARATOR), -1);
+        if (fields.length != FIELD_COUNT || line.startsWith("#")) {
+            return null;
+        }
+        for (int k = 0; k < fields.length; k++) {
+            fields[k] = unescape(fields[k]);
+        }
+        return fields;
+    }
+
+    private static void escape(StringBuilder builder, String value) {
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            switch (c) {
+                case '\\': builder.append("\\\\"); break;
+                case '\t': builder.append("\\t"); break;
+                case '\n': builder.append("\\n"); break;
+                case '\r': builder.append("\\r"); break;
+                default: builder.append(c);
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            if (c == '\\' && k + 1 < value.length()) {
+                char next = value.charAt(++k);
+                switch (next) {
+                    case 't': builder.append('\t'); break;
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    default: builder.append(next);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.fugerit.java.junit5.tag.check.core;
+
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact tag index, generated at compile time by TagIndexProcessor (junit5-tag-check-processor).
+ *
+ * Text format (UTF-8), one line for each class followed by one line for each of its methods :
+ * <pre>
+ * # junit5-tag-check tags index v1
+ * C	org.example.MyTest	org.example.BaseTest	classTag1,classTag2
+ * M	testMethod	methodTag1
+ * M	otherTestMethod
+ * </pre>
+ *
+ * Fields are separated by a tab, the super class is empty for java.lang.Object.
+ * (JUnit tags cannot contain whitespaces or commas).
+ */
+public class TagIndex {
+
+    private TagIndex() {}
+
+    public static final String RESOURCE_PATH = "META-INF/junit5-tag-check/tags.idx";
+
+    public static final String HEADER = "# junit5-tag-check tags index v1";
+
+    private static final String TYPE_CLASS = "C";
+
+    private static final String TYPE_METHOD = "M";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final String TAG_SEPARATOR = ",";
+
+    public static Map<String, ClassTagInfo> read(Reader reader) throws IOException {
+        Map<String, ClassTagInfo> index = new LinkedHashMap<>();
+        BufferedReader br = new BufferedReader(reader);
+        String line = br.readLine();
+        if (!HEADER.equals(line)) {
+            throw new IOException("Unsupported tag index header : " + line);
+        }
+        Map<String, List<String>> methodTags = null;
+        while ((line = br.readLine()) != null) {
+            String[] fields = line.split(SEPARATOR, -1);
+            if (TYPE_CLASS.equals(fields[0]) && fields.length == 4) {
+                methodTags = new LinkedHashMap<>();
+                String superClassName = fields[2].isEmpty() ? null : fields[2];
+                index.put(fields[1], new ClassTagInfo(fields[1], superClassName, splitTags(fields[3]), methodTags));
+            } else if (TYPE_METHOD.equals(fields[0]) && fields.length == 3 && methodTags != null) {
+                if (!methodTags.containsKey(fields[1])) {
+                    methodTags.put(fields[1], splitTags(fields[2]));
+                }
+            } else if (!line.isEmpty()) {
+                throw new IOException("Invalid tag index line : " + line);
+            }
+        }
+        return index;
+    }
+
+    public static void write(Writer writer, Collection<ClassTagInfo> classInfos) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (ClassTagInfo info : classInfos) {
+            writer.write(TYPE_CLASS);
+            writer.write(SEPARATOR);
+            writer.write(info.getClassName());
+            writer.write(SEPARATOR);
+            writer.write(info.getSuperClassName() == null ? "" : info.getSuperClassName());
+            writer.write(SEPARATOR);
+            writer.write(String.join(TAG_SEPARATOR, info.getClassTags()));
+            writer.write('\n');
+            for (Map.Entry<String, List<String>> entry : info.getMethodTags().entrySet()) {
+                writer.write(TYPE_METHOD);
+                writer.write(SEPARATOR);
+                writer.write(entry.getKey());
+                writer.write(SEPARATOR);
+                writer.write(String.join(TAG_SEPARATOR, entry.getValue()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static List<String> splitTags(String tags) {
+        return tags.isEmpty() ? Collections.emptyList() : new ArrayList<>(Arrays.asList(tags.split(TAG_SEPARATOR)));
+    }
+
+}
@@ -0,0 +1,223 @@
+package org.fugerit.java.junit5.tag.check.listener;
+
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Captures tags, status and duration of each finished test, registered through ServiceLoader
+ * when the junit5-tag-check-listener artifact is on the test classpath.
+ *
+ * Each test plan execution appends to its own capture file (see {@link TagCapture}),
+ * so forked JVMs never write to the same file.
+ *
+ * When a run id is set, files are named after it ('capture-[run id]-[uuid].tsv') and at the first test plan
+ * execution of the JVM (the start of the test session) the capture files of the other runs are deleted.
+ * Without a run id nothing is deleted, as the forked JVMs of the same run could not be told apart.
+ *
+ * Configuration parameters (system properties or junit-platform.properties) :
+ * <ul>
+ *     <li>junit5.tag.check.capture.enabled : default 'true'</li>
+ *     <li>junit5.tag.check.capture.dir : default 'target/junit5-tag-check/capture'</li>
+ *     <li>junit5.tag.check.capture.run : no default, id of the run, must be shared by the forked JVMs of the same run</li>
+ * </ul>
+ */
+public class TagCaptureListener implements TestExecutionListener {
+
+    private static final Logger LOG = Logger.getLogger(TagCaptureListener.class.getName());
+
+    public static final String CONFIG_ENABLED = "junit5.tag.check.capture.enabled";
+
+    public static final String CONFIG_DIRECTORY = "junit5.tag.check.capture.dir";
+
+    public static final String CONFIG_RUN = "junit5.tag.check.capture.run";
+
+    public static final String DEFAULT_DIRECTORY = "target/junit5-tag-check/capture";
+
+    private static final String FILE_PREFIX = "capture-";
+
+    // capture directories already cleaned by this JVM
+    private static final Set<String> CLEANED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    private volatile TestPlan testPlan;
+
+    private Writer writer;
+
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        ConfigurationParameters config = testPlan.getConfigurationParameters();
+        if (!config.getBoolean(CONFIG_ENABLED).orElse(Boolean.TRUE)) {
+            return;
+        }
+        File captureDirectory = new File(config.get(CONFIG_DIRECTORY).orElse(DEFAULT_DIRECTORY));
+        String run = config.get(CONFIG_RUN).map(String::trim).filter(value -> !value.isEmpty()).orElse(null);
+        String runPrefix = run == null ? FILE_PREFIX : FILE_PREFIX + toRunId(run) + "-";
+        File captureFile = new File(captureDirectory, runPrefix + UUID.randomUUID() + TagCapture.FILE_SUFFIX);
+        try {
+            if (!captureDirectory.isDirectory() && !captureDirectory.mkdirs()) {
+                throw new IOException("Could not create directory : " + captureDirectory.getAbsolutePath());
+            }
+            if (run != null && CLEANED_DIRECTORIES.add(captureDirectory.getAbsolutePath())) {
+                deletePreviousRuns(captureDirectory, runPrefix);
+            }
+            this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(captureFile, true), StandardCharsets.UTF_8));
+            TagCapture.writeHeader(this.writer);
+            this.testPlan = testPlan;
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, e, () -> "Tag capture disabled, could not write : " + captureFile.getAbsolutePath());
+            this.close();
+        }
+    }
+
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        this.close();
+        this.testPlan = null;
+        this.startTimes.clear();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+            long durationMicros = startTime == null ? 0L : (System.nanoTime() - startTime) / 1000L;
+            this.capture(testIdentifier, toStatus(testExecutionResult), durationMicros);
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testIdentifier.isTest()) {
+            this.capture(testIdentifier, TagCapture.STATUS_SKIPPED, 0L);
+        } else {
+            // tests of a skipped container are not notified
+            TestPlan currentPlan = this.testPlan;
+            if (currentPlan != null) {
+                for (TestIdentifier descendant : currentPlan.getDescendants(testIdentifier)) {
+                    if (descendant.isTest()) {
+                        this.capture(descendant, TagCapture.STATUS_SKIPPED, 0L);
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void capture(TestIdentifier testIdentifier, String status, long durationMicros) {
+        if (this.writer == null) {
+            return;
+        }
+        // the nearest method source gives class and method, the test itself or a parent (dynamic or parameterized tests)
+        String className = null;
+        String methodName = testIdentifier.getDisplayName();
+        TestIdentifier current = testIdentifier;
+        while (current != null && className == null) {
+            TestSource source = current.getSource().orElse(null);
+            if (source instanceof MethodSource) {
+                MethodSource methodSource = (MethodSource) source;
+                className = methodSource.getClassName();
+                methodName = isMethodTest(current, testIdentifier) ? methodSource.getMethodName()
+                        : methodSource.getMethodName() + "[" + testIdentifier.getDisplayName() + "]";
+            } else if (source instanceof ClassSource) {
+                className = ((ClassSource) source).getClassName();
+            }
+            current = this.testPlan.getParent(current).orElse(null);
+        }
+        // tags of the test and of all its containers (enclosing classes of @Nested tests, test templates and factories)
+        Set<String> tags = new TreeSet<>();
+        current = testIdentifier;
+        while (current != null) {
+            for (TestTag tag : current.getTags()) {
+                tags.add(tag.getName());
+            }
+            current = this.testPlan.getParent(current).orElse(null);
+        }
+        try {
+            TagCapture.writeLine(this.writer, testIdentifier.getUniqueId(), className == null ? "" : className,
+                    methodName, status, durationMicros, tags);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, e, () -> "Tag capture disabled, write failed");
+            this.close();
+        }
+    }
+
+    private boolean isMethodTest(TestIdentifier methodIdentifier, TestIdentifier testIdentifier) {
+        // a parameterized test invocation has the same method source of its parent
+        return methodIdentifier == testIdentifier && !this.testPlan.getParent(testIdentifier)
+                .flatMap(TestIdentifier::getSource)
+                .filter(MethodSource.class::isInstance)
+                .isPresent();
+    }
+
+    private static String toRunId(String run) {
+        // the run id is part of the file name, '-' separates it from the file uuid
+        return run.replaceAll("[^A-Za-z0-9_.]", "_");
+    }
+
+    private static void deletePreviousRuns(File captureDirectory, String runPrefix) {
+        File[] previousFiles = captureDirectory.listFiles(
+                (dir, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(TagCapture.FILE_SUFFIX) && !name.startsWith(runPrefix));
+        if (previousFiles != null) {
+            for (File previousFile : previousFiles) {
+                if (!previousFile.delete()) {
+                    LOG.warning(() -> "Could not delete previous capture file : " + previousFile.getAbsolutePath());
+                }
+            }
+        }
+    }
+
+    private static String toStatus(TestExecutionResult testExecutionResult) {
+        switch (testExecutionResult.getStatus()) {
+            case SUCCESSFUL:
+                return TagCapture.STATUS_PASSED;
+            case ABORTED:
+                return TagCapture.STATUS_SKIPPED;
+            default:
+                // same classification of Surefire : assertion errors are failures, other throwables are errors
+                return testExecutionResult.getThrowable().filter(AssertionError.class::isInstance).isPresent()
+                        ? TagCapture.STATUS_FAILED : TagCapture.STATUS_ERROR;
+        }
+    }
+
+    private void close() {
+        if (this.writer != null) {
+            try {
+                this.writer.close();
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, e, () -> "Error closing tag capture file");
+            }
+            this.writer = null;
+        }
+    }
+
+}
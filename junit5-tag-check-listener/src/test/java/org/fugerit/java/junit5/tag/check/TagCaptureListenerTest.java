@@ -0,0 +1,127 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.fugerit.java.junit5.tag.check.listener.TagCaptureListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class TagCaptureListenerTest {
+
+    /*
+     * Test class run through the launcher (only passing and disabled tests, it may be discovered by the build too)
+     */
+    @Tag( "capture" )
+    static class CaptureFixture {
+
+        @Test
+        @Tag( "fast" )
+        void testPassed() {
+            Assertions.assertTrue( Boolean.TRUE );
+        }
+
+        @Test
+        @Disabled
+        void testDisabled() {
+            Assertions.fail( "disabled" );
+        }
+
+        @RepeatedTest( 2 )
+        void testRepeated() {
+            Assertions.assertTrue( Boolean.TRUE );
+        }
+
+        @Nested
+        @Tag( "nested" )
+        class Inner {
+
+            @Test
+            void testInner() {
+                Assertions.assertTrue( Boolean.TRUE );
+            }
+
+        }
+
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCaptureThroughLauncher() throws IOException {
+        File captureDirectory = tempDir.toFile();
+        File previousRun = new File( captureDirectory, "capture-previous-1" + TagCapture.FILE_SUFFIX );
+        File otherFile = new File( captureDirectory, "notes.txt" );
+        Files.write( previousRun.toPath(), Collections.singletonList( TagCapture.HEADER ), StandardCharsets.UTF_8 );
+        Files.write( otherFile.toPath(), Collections.singletonList( "not a capture file" ), StandardCharsets.UTF_8 );
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors( selectClass( CaptureFixture.class ) )
+                .configurationParameter( TagCaptureListener.CONFIG_DIRECTORY, captureDirectory.getAbsolutePath() )
+                .configurationParameter( TagCaptureListener.CONFIG_RUN, "current" )
+                .build();
+        // the listener is registered through ServiceLoader
+        LauncherFactory.create().execute( request );
+        // capture files of previous runs are deleted when the session starts, as the run id is set
+        Assertions.assertFalse( previousRun.exists() );
+        Assertions.assertTrue( otherFile.exists() );
+        File[] captureFiles = captureDirectory.listFiles( ( dir, name ) -> name.endsWith( TagCapture.FILE_SUFFIX ) );
+        Assertions.assertNotNull( captureFiles );
+        Assertions.assertEquals( 1, captureFiles.length );
+        Assertions.assertTrue( captureFiles[0].getName().startsWith( "capture-current-" ) );
+        List<String> lines = Files.readAllLines( captureFiles[0].toPath(), StandardCharsets.UTF_8 );
+        Assertions.assertEquals( TagCapture.HEADER, lines.get( 0 ) );
+        Map<String, String[]> captured = new HashMap<>();
+        for ( String line : lines.subList( 1, lines.size() ) ) {
+            String[] fields = TagCapture.readLine( line );
+            captured.put( fields[TagCapture.FIELD_CLASS] + "#" + fields[TagCapture.FIELD_METHOD], fields );
+        }
+        Assertions.assertEquals( 5, captured.size(), () -> captured.keySet().toString() );
+        String fixtureClass = CaptureFixture.class.getName();
+        String[] passed = captured.get( fixtureClass + "#testPassed" );
+        Assertions.assertEquals( TagCapture.STATUS_PASSED, passed[TagCapture.FIELD_STATUS] );
+        Assertions.assertEquals( "capture,fast", passed[TagCapture.FIELD_TAGS] );
+        String[] disabled = captured.get( fixtureClass + "#testDisabled" );
+        Assertions.assertEquals( TagCapture.STATUS_SKIPPED, disabled[TagCapture.FIELD_STATUS] );
+        Assertions.assertEquals( "0", disabled[TagCapture.FIELD_DURATION] );
+        Assertions.assertEquals( "capture", disabled[TagCapture.FIELD_TAGS] );
+        Assertions.assertNotNull( captured.get( fixtureClass + "#testRepeated[repetition 1 of 2]" ) );
+        Assertions.assertNotNull( captured.get( fixtureClass + "#testRepeated[repetition 2 of 2]" ) );
+        String[] inner = captured.get( CaptureFixture.Inner.class.getName() + "#testInner" );
+        Assertions.assertEquals( TagCapture.STATUS_PASSED, inner[TagCapture.FIELD_STATUS] );
+        Assertions.assertEquals( "capture,nested", inner[TagCapture.FIELD_TAGS] );
+    }
+
+    @Test
+    void testNoRunIdKeepsCaptures() throws IOException {
+        File captureDirectory = tempDir.toFile();
+        // for instance the capture file of another forked JVM of the same run
+        File otherCapture = new File( captureDirectory, "capture-other" + TagCapture.FILE_SUFFIX );
+        Files.write( otherCapture.toPath(), Collections.singletonList( TagCapture.HEADER ), StandardCharsets.UTF_8 );
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors( selectClass( CaptureFixture.class ) )
+                .configurationParameter( TagCaptureListener.CONFIG_DIRECTORY, captureDirectory.getAbsolutePath() )
+                .build();
+        LauncherFactory.create().execute( request );
+        Assertions.assertTrue( otherCapture.exists() );
+        File[] captureFiles = captureDirectory.listFiles( ( dir, name ) -> name.endsWith( TagCapture.FILE_SUFFIX ) );
+        Assertions.assertNotNull( captureFiles );
+        Assertions.assertEquals( 2, captureFiles.length );
+    }
+
+}
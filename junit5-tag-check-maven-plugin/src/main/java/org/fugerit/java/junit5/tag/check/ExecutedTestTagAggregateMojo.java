@@ -0,0 +1,223 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+import org.apache.maven.project.MavenProject;
+import org.fugerit.java.junit5.tag.check.facade.TagCaptureFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagCheckFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagCollectFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagReportFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagScanFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagSurefireFacade;
+import org.fugerit.java.junit5.tag.check.model.CollectOptions;
+import org.fugerit.java.junit5.tag.check.model.ModuleSource;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportOutput;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Reports tags from actually executed tests of all the modules of the reactor, in a single report.
+ *
+ * Modules are collected concurrently, the required tags are checked once on the merged result.
+ */
+@Mojo(
+        name = "report-executed-tags-aggregate",
+        aggregator = true,
+        defaultPhase = LifecyclePhase.VERIFY,
+        requiresDependencyResolution = ResolutionScope.TEST
+)
+public class ExecutedTestTagAggregateMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject project;
+
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+    protected List<MavenProject> reactorProjects;
+
+    /**
+     * Surefire reports directory of each module, relative to the module build directory
+     */
+    @Parameter(property = "test.tag.reporter.surefireReportsPath", defaultValue = "surefire-reports")
+    protected String surefireReportsPath;
+
+    /**
+     * Capture directory of each module, relative to the module build directory
+     */
+    @Parameter(property = "test.tag.reporter.capturePath", defaultValue = "junit5-tag-check/capture")
+    protected String capturePath;
+
+    /**
+     * Surefire parse cache file of each module, relative to the module build directory
+     */
+    @Parameter(property = "test.tag.reporter.parseCachePath", defaultValue = "junit5-tag-check/surefire-parse-cache.json")
+    protected String parseCachePath;
+
+    @Parameter(property = "test.tag.reporter.outputFile",
+            defaultValue = "${project.build.directory}/executed-test-tag-aggregate-report.txt")
+    protected File outputFile;
+
+    @Parameter(property = "test.tag.reporter.format", defaultValue = "text")
+    protected String format; // text, json, xml, html
+
+    /**
+     * Reports to generate in a single run (format and outputFile of each output),
+     * when set, 'format' and 'outputFile' parameters are ignored.
+     */
+    @Parameter
+    protected List<ReportOutput> outputs;
+
+    @Parameter(property = "test.tag.reporter.requiredTags")
+    protected List<String> requiredTags;
+
+    @Parameter(property = "test.tag.reporter.failOnMissingTag", defaultValue = "false")
+    protected boolean failOnMissingTag;
+
+    @Parameter(property = "test.tag.reporter.includeSkipped", defaultValue = "false")
+    protected boolean includeSkipped;
+
+    @Parameter(property = "test.tag.reporter.prettyPrint", defaultValue = "true")
+    protected boolean prettyPrint;
+
+    /**
+     * Sections to render (summary, tags-summary, slowest-tests, tests-by-tag, all-tests), all the sections if not set
+     */
+    @Parameter(property = "test.tag.reporter.sections")
+    protected List<String> sections;
+
+    /**
+     * Maximum number of tests listed for each tag (the slowest ones), 0 for no limit
+     */
+    @Parameter(property = "test.tag.reporter.maxTestsPerTag", defaultValue = "0")
+    protected int maxTestsPerTag;
+
+    /**
+     * Number of slowest tests listed, overall and for each tag, 0 to disable
+     */
+    @Parameter(property = "test.tag.reporter.slowestTests", defaultValue = "0")
+    protected int slowestTests;
+
+    @Parameter(property = "test.tag.reporter.surefireParser", defaultValue = TagSurefireFacade.PARSER_STAX)
+    protected String surefireParser; // stax, dom
+
+    @Parameter(property = "test.tag.reporter.parseThreads", defaultValue = "1")
+    protected int parseThreads;
+
+    @Parameter(property = "test.tag.reporter.parseCache", defaultValue = "true")
+    protected boolean parseCache;
+
+    @Parameter(property = "test.tag.reporter.scanMode", defaultValue = TagScanFacade.SCAN_REFLECTION)
+    protected String scanMode; // auto, reflection, bytecode, index
+
+    @Parameter(property = "test.tag.reporter.tagSource", defaultValue = TagCaptureFacade.SOURCE_AUTO)
+    protected String tagSource; // auto, surefire, capture
+
+    /**
+     * Number of modules collected concurrently, 0 for the number of available processors
+     */
+    @Parameter(property = "test.tag.reporter.aggregateThreads", defaultValue = "0")
+    protected int aggregateThreads;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        getLog().info("Executed Test Tag Reporter - Analyzing test execution of the reactor...");
+
+        try {
+            ReportOptions options = new ReportOptions();
+            options.setIncludeSkipped( this.includeSkipped );
+            options.setPrettyPrint( this.prettyPrint );
+            options.setSections( ExecutedTestTagReporterMojo.checkSections( this.sections ) );
+            options.setMaxTestsPerTag( this.maxTestsPerTag );
+            options.setSlowestTests( this.slowestTests );
+            List<ReportOutput> reportOutputs = ExecutedTestTagReporterMojo.getReportOutputs( this.outputs, this.format, this.outputFile );
+
+            List<ModuleSource> sources = this.getModuleSources();
+            int threads = this.aggregateThreads > 0 ? this.aggregateThreads : Runtime.getRuntime().availableProcessors();
+            getLog().info("Modules with test results : " + sources.size() + ", threads : " + Math.min( threads, sources.size() ));
+
+            // Executed tests and tags of all the modules, in reactor order
+            TestTable testTable = TagCollectFacade.collectAll( sources, this.getCollectOptions(), threads );
+            if (testTable == null) {
+                getLog().warn("No Surefire reports or capture files found in the reactor modules");
+                return;
+            }
+
+            getLog().info("Found " + testTable.size() + " executed tests in " + sources.size() + " modules");
+
+            // Generate report
+            TagReportFacade.generateReports( reportOutputs, testTable, this.requiredTags, options );
+
+            // Check for required tags
+            if (requiredTags != null && !requiredTags.isEmpty()) {
+                TagCheckFacade.checkRequiredTags( this.requiredTags, this.failOnMissingTag, testTable);
+            }
+
+            for ( ReportOutput reportOutput : reportOutputs ) {
+                getLog().info("Executed Test Tag Aggregate Report generated: " +
+                        reportOutput.getOutputFile().getAbsolutePath());
+            }
+
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error generating executed test tag aggregate report", e);
+        }
+    }
+
+    private CollectOptions getCollectOptions() {
+        CollectOptions collectOptions = new CollectOptions();
+        collectOptions.setIncludeSkipped( this.includeSkipped );
+        collectOptions.setSurefireParser( this.surefireParser );
+        collectOptions.setParseThreads( this.parseThreads );
+        collectOptions.setScanMode( this.scanMode );
+        collectOptions.setTagSource( this.tagSource );
+        return collectOptions;
+    }
+
+    /*
+     * Only the modules with a Surefire reports or capture directory are collected
+     * (for instance parent and aggregator poms are skipped).
+     */
+    private List<ModuleSource> getModuleSources() {
+        List<MavenProject> projects = this.reactorProjects != null ? this.reactorProjects : Collections.singletonList( this.project );
+        List<ModuleSource> sources = new ArrayList<>( projects.size() );
+        for ( MavenProject currentProject : projects ) {
+            if ( currentProject.getBuild() == null || currentProject.getBuild().getDirectory() == null ) {
+                getLog().debug("Skipping module without build directory : " + currentProject.getArtifactId());
+                continue;
+            }
+            File buildDirectory = new File( currentProject.getBuild().getDirectory() );
+            File surefireReportsDirectory = new File( buildDirectory, this.surefireReportsPath );
+            File captureDirectory = new File( buildDirectory, this.capturePath );
+            if ( !surefireReportsDirectory.isDirectory() && !captureDirectory.isDirectory() ) {
+                getLog().debug("Skipping module without test results : " + currentProject.getArtifactId());
+                continue;
+            }
+            File testOutputDirectory = currentProject.getBuild().getTestOutputDirectory() != null ?
+                    new File( currentProject.getBuild().getTestOutputDirectory() ) : null;
+            sources.add( new ModuleSource( currentProject.getArtifactId(), surefireReportsDirectory, captureDirectory, testOutputDirectory,
+                    this.getTestClasspathElements( currentProject ), this.parseCache ? new File( buildDirectory, this.parseCachePath ) : null ) );
+        }
+        return sources;
+    }
+
+    private List<String> getTestClasspathElements(MavenProject currentProject) {
+        try {
+            return currentProject.getTestClasspathElements();
+        } catch (DependencyResolutionRequiredException e) {
+            // dependencies of the module not resolved in this build, only the module classes are available
+            getLog().warn("Test classpath not resolved for module " + currentProject.getArtifactId() + ", using module classes only : " + e.getMessage());
+            List<String> elements = new ArrayList<>();
+            if ( currentProject.getBuild().getTestOutputDirectory() != null ) {
+                elements.add( currentProject.getBuild().getTestOutputDirectory() );
+            }
+            if ( currentProject.getBuild().getOutputDirectory() != null ) {
+                elements.add( currentProject.getBuild().getOutputDirectory() );
+            }
+            return elements;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package org.fugerit.java.junit5.tag.check;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+import org.fugerit.java.doc.base.config.DocConfig;
+import org.fugerit.java.junit5.tag.check.facade.JsonReportWriter;
+import org.fugerit.java.junit5.tag.check.facade.ReportMergeFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagCheckFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagReportFacade;
+import org.fugerit.java.junit5.tag.check.model.BinaryReport;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportOutput;
+import org.fugerit.java.junit5.tag.check.model.SlowestTests;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Merges partial reports (json or binary, for instance from sharded CI jobs) into a single report,
+ * the required tags are checked on the union of the partial reports.
+ */
+@Mojo(
+        name = "merge-executed-tags",
+        defaultPhase = LifecyclePhase.VERIFY,
+        requiresProject = false
+)
+public class ExecutedTestTagMergeMojo extends AbstractMojo {
+
+    /**
+     * Partial reports to merge (json or binary)
+     */
+    @Parameter(property = "test.tag.reporter.partialReports")
+    protected List<File> partialReports;
+
+    /**
+     * Directory containing partial reports to merge (all the '.json' and '.bin' files, sorted by name)
+     */
+    @Parameter(property = "test.tag.reporter.partialReportsDirectory")
+    protected File partialReportsDirectory;
+
+    @Parameter(property = "test.tag.reporter.outputFile",
+            defaultValue = "${project.build.directory}/executed-test-tag-merged-report.json")
+    protected File outputFile;
+
+    @Parameter(property = "test.tag.reporter.format", defaultValue = DocConfig.TYPE_JSON)
+    protected String format; // json, text, xml, html
+
+    /**
+     * Reports to generate in a single run (format and outputFile of each output),
+     * when set, 'format' and 'outputFile' parameters are ignored.
+     */
+    @Parameter
+    protected List<ReportOutput> outputs;
+
+    @Parameter(property = "test.tag.reporter.requiredTags")
+    protected List<String> requiredTags;
+
+    @Parameter(property = "test.tag.reporter.failOnMissingTag", defaultValue = "false")
+    protected boolean failOnMissingTag;
+
+    @Parameter(property = "test.tag.reporter.includeSkipped", defaultValue = "false")
+    protected boolean includeSkipped;
+
+    @Parameter(property = "test.tag.reporter.prettyPrint", defaultValue = "true")
+    protected boolean prettyPrint;
+
+    /**
+     * Sections to render (summary, tags-summary, slowest-tests, tests-by-tag, all-tests), all the sections if not set
+     */
+    @Parameter(property = "test.tag.reporter.sections")
+    protected List<String> sections;
+
+    /**
+     * Maximum number of tests listed for each tag (the slowest ones), 0 for no limit
+     */
+    @Parameter(property = "test.tag.reporter.maxTestsPerTag", defaultValue = "0")
+    protected int maxTestsPerTag;
+
+    /**
+     * Number of slowest tests listed, overall and for each tag, 0 to disable
+     */
+    @Parameter(property = "test.tag.reporter.slowestTests", defaultValue = "0")
+    protected int slowestTests;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        getLog().info("Executed Test Tag Reporter - Merging partial reports...");
+
+        try {
+            ReportOptions options = new ReportOptions();
+            options.setIncludeSkipped( this.includeSkipped );
+            options.setPrettyPrint( this.prettyPrint );
+            options.setSections( ExecutedTestTagReporterMojo.checkSections( this.sections ) );
+            options.setMaxTestsPerTag( this.maxTestsPerTag );
+            options.setSlowestTests( this.slowestTests );
+            List<ReportOutput> reportOutputs = ExecutedTestTagReporterMojo.getReportOutputs( this.outputs, this.format, this.outputFile );
+
+            List<File> reports = this.getPartialReports();
+            if ( reports.isEmpty() ) {
+                getLog().warn("No partial report found");
+                return;
+            }
+            getLog().info("Partial reports to merge : " + reports.size());
+
+            Set<String> foundTags;
+            if ( reportOutputs.stream().allMatch( o -> DocConfig.TYPE_JSON.equalsIgnoreCase( o.getFormat() ) ) ) {
+                foundTags = this.mergeStreaming( reports, reportOutputs, options );
+            } else {
+                // other formats need all the executed tests (summaries, tests by tag)
+                TestTable testTable = new TestTable();
+                ReportMergeFacade.merge( reports, this.includeSkipped, testTable::add );
+                getLog().info("Merged " + testTable.size() + " executed tests");
+                TagReportFacade.generateReports( reportOutputs, testTable, this.requiredTags, options );
+                foundTags = testTable.getFoundTags();
+            }
+
+            // Check for required tags
+            if (requiredTags != null && !requiredTags.isEmpty()) {
+                TagCheckFacade.checkRequiredTags( this.requiredTags, this.failOnMissingTag, foundTags );
+            }
+
+            for ( ReportOutput reportOutput : reportOutputs ) {
+                getLog().info("Executed Test Tag Merged Report generated: " +
+                        reportOutput.getOutputFile().getAbsolutePath());
+            }
+
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error merging executed test tag reports", e);
+        }
+    }
+
+    /*
+     * json reports are written while merging, only the stats of each tag (bounded size duration sketches)
+     * and the slowest tests (bounded heaps) are kept in memory.
+     */
+    private Set<String> mergeStreaming(List<File> reports, List<ReportOutput> reportOutputs, ReportOptions options) throws IOException {
+        Map<String, TestStats> tagStats = new LinkedHashMap<>();
+        int limit = options.getSlowestTests();
+        SlowestTests slowestHeap = new SlowestTests( limit );
+        Map<String, SlowestTests> tagSlowestHeaps = new LinkedHashMap<>();
+        List<JsonGenerator> generators = new ArrayList<>( reportOutputs.size() );
+        try {
+            for ( ReportOutput reportOutput : reportOutputs ) {
+                reportOutput.getOutputFile().getAbsoluteFile().getParentFile().mkdirs();
+                generators.add( JsonReportWriter.start( reportOutput.getOutputFile(), this.prettyPrint ) );
+            }
+            int count = ReportMergeFacade.merge( reports, this.includeSkipped, (test, tags) -> {
+                slowestHeap.add( test );
+                for ( String tag : tags ) {
+                    tagStats.computeIfAbsent( tag, k -> new TestStats() ).add( test );
+                    tagSlowestHeaps.computeIfAbsent( tag, k -> new SlowestTests( limit ) ).add( test );
+                }
+                for ( JsonGenerator generator : generators ) {
+                    JsonReportWriter.writeTest( generator, test, tags );
+                }
+            } );
+            List<ExecutedTest> slowest = null;
+            Map<String, List<ExecutedTest>> slowestByTag = null;
+            if ( limit > 0 ) {
+                slowest = slowestHeap.getTests();
+                slowestByTag = new LinkedHashMap<>();
+                for ( Map.Entry<String, SlowestTests> entry : tagSlowestHeaps.entrySet() ) {
+                    slowestByTag.put( entry.getKey(), entry.getValue().getTests() );
+                }
+            }
+            for ( JsonGenerator generator : generators ) {
+                JsonReportWriter.end( generator, tagStats, slowest, slowestByTag );
+            }
+            getLog().info("Merged " + count + " executed tests");
+        } finally {
+            for ( JsonGenerator generator : generators ) {
+                generator.close();
+            }
+        }
+        return tagStats.keySet();
+    }
+
+    private List<File> getPartialReports() {
+        List<File> reports = new ArrayList<>();
+        if ( this.partialReports != null ) {
+            reports.addAll( this.partialReports );
+        }
+        if ( this.partialReportsDirectory != null ) {
+            File[] files = this.partialReportsDirectory.listFiles( (dir, name) -> name.endsWith( ".json" ) || name.endsWith( BinaryReport.FILE_SUFFIX ) );
+            if ( files != null ) {
+                Arrays.sort( files, Comparator.comparing( File::getName ) );
+                for ( File file : files ) {
+                    // the merged report may be written in the same directory
+                    if ( this.isOutputFile( file ) ) {
+                        continue;
+                    }
+                    reports.add( file );
+                }
+            } else {
+                getLog().warn("Partial reports directory not found: " + this.partialReportsDirectory.getAbsolutePath());
+            }
+        }
+        return reports;
+    }
+
+    private boolean isOutputFile(File file) {
+        if ( this.outputs != null && !this.outputs.isEmpty() ) {
+            return this.outputs.stream().anyMatch( o -> file.getAbsoluteFile().equals( o.getOutputFile().getAbsoluteFile() ) );
+        }
+        return this.outputFile != null && file.getAbsoluteFile().equals( this.outputFile.getAbsoluteFile() );
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+import org.apache.maven.project.MavenProject;
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.fugerit.java.junit5.tag.check.facade.ReportFingerprint;
+import org.fugerit.java.junit5.tag.check.facade.TagCaptureFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagCheckFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagCollectFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagReportFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagScanFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagSurefireFacade;
+import org.fugerit.java.junit5.tag.check.model.CollectOptions;
+import org.fugerit.java.junit5.tag.check.model.ModuleSource;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportOutput;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Reports tags from actually executed tests by parsing Surefire reports
+ */
+@Mojo(
+        name = "report-executed-tags",
+        defaultPhase = LifecyclePhase.VERIFY,
+        requiresDependencyResolution = ResolutionScope.TEST
+)
+public class ExecutedTestTagReporterMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    protected MavenProject project;
+
+    @Parameter(property = "surefire.reports.directory",
+            defaultValue = "${project.build.directory}/surefire-reports")
+    protected File surefireReportsDirectory;
+
+    @Parameter(property = "test.tag.reporter.outputFile",
+            defaultValue = "${project.build.directory}/executed-test-tag-report.txt")
+    protected File outputFile;
+
+    @Parameter(property = "test.tag.reporter.format", defaultValue = "text")
+    protected String format; // text, json, xml, html
+
+    /**
+     * Reports to generate in a single run (format and outputFile of each output),
+     * when set, 'format' and 'outputFile' parameters are ignored.
+     */
+    @Parameter
+    protected List<ReportOutput> outputs;
+
+    @Parameter(property = "test.tag.reporter.requiredTags")
+    protected List<String> requiredTags;
+
+    @Parameter(property = "test.tag.reporter.failOnMissingTag", defaultValue = "false")
+    protected boolean failOnMissingTag;
+
+    @Parameter(property = "test.tag.reporter.includeSkipped", defaultValue = "false")
+    protected boolean includeSkipped;
+
+    @Parameter(property = "test.tag.reporter.prettyPrint", defaultValue = "true")
+    protected boolean prettyPrint;
+
+    /**
+     * Sections to render (summary, tags-summary, slowest-tests, tests-by-tag, all-tests), all the sections if not set
+     */
+    @Parameter(property = "test.tag.reporter.sections")
+    protected List<String> sections;
+
+    /**
+     * Maximum number of tests listed for each tag (the slowest ones), 0 for no limit
+     */
+    @Parameter(property = "test.tag.reporter.maxTestsPerTag", defaultValue = "0")
+    protected int maxTestsPerTag;
+
+    /**
+     * Number of slowest tests listed, overall and for each tag, 0 to disable
+     */
+    @Parameter(property = "test.tag.reporter.slowestTests", defaultValue = "0")
+    protected int slowestTests;
+
+    @Parameter(property = "test.tag.reporter.surefireParser", defaultValue = TagSurefireFacade.PARSER_STAX)
+    protected String surefireParser; // stax, dom
+
+    @Parameter(property = "test.tag.reporter.parseThreads", defaultValue = "1")
+    protected int parseThreads;
+
+    @Parameter(property = "test.tag.reporter.parseCache", defaultValue = "true")
+    protected boolean parseCache;
+
+    @Parameter(property = "test.tag.reporter.parseCacheFile",
+            defaultValue = "${project.build.directory}/junit5-tag-check/surefire-parse-cache.json")
+    protected File parseCacheFile;
+
+    @Parameter(property = "test.tag.reporter.scanMode", defaultValue = TagScanFacade.SCAN_REFLECTION)
+    protected String scanMode; // auto, reflection, bytecode, index
+
+    @Parameter(property = "test.tag.reporter.tagSource", defaultValue = TagCaptureFacade.SOURCE_AUTO)
+    protected String tagSource; // auto, surefire, capture
+
+    @Parameter(property = "test.tag.reporter.captureDirectory",
+            defaultValue = "${project.build.directory}/junit5-tag-check/capture")
+    protected File captureDirectory;
+
+    /**
+     * Skip the report generation when inputs (Surefire reports, capture files, test classes and configuration)
+     * did not change since the last run, the required tags are checked anyway
+     */
+    @Parameter(property = "test.tag.reporter.upToDateCheck", defaultValue = "true")
+    protected boolean upToDateCheck;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        getLog().info("Executed Test Tag Reporter - Analyzing test execution...");
+
+        try {
+            ReportOptions options = new ReportOptions();
+            options.setIncludeSkipped( this.includeSkipped );
+            options.setPrettyPrint( this.prettyPrint );
+            options.setSections( this.checkSections() );
+            options.setMaxTestsPerTag( this.maxTestsPerTag );
+            options.setSlowestTests( this.slowestTests );
+            List<ReportOutput> reportOutputs = this.getReportOutputs();
+
+            // Fingerprint of the inputs, computed before reading them
+            String fingerprint = null;
+            File fingerprintFile = null;
+            List<File> outputFiles = reportOutputs.stream().map( ReportOutput::getOutputFile ).collect( Collectors.toList() );
+            if ( this.upToDateCheck ) {
+                fingerprint = this.computeFingerprint( reportOutputs, options );
+                fingerprintFile = ReportFingerprint.getFingerprintFile( outputFiles.get( 0 ) );
+                Set<String> foundTags = ReportFingerprint.readFoundTags( fingerprintFile, fingerprint, outputFiles );
+                if ( foundTags != null ) {
+                    getLog().info("Executed Test Tag Report is up to date (inputs and reports did not change), skipping generation");
+                    if (requiredTags != null && !requiredTags.isEmpty()) {
+                        TagCheckFacade.checkRequiredTags( this.requiredTags, this.failOnMissingTag, foundTags );
+                    }
+                    return;
+                }
+            }
+
+            // Executed tests and tags (capture files, or Surefire reports and test classes)
+            TestTable testTable = TagCollectFacade.collect( this.getModuleSource(), this.getCollectOptions() );
+            if (testTable == null) {
+                return;
+            }
+
+            // Generate report
+            TagReportFacade.generateReports( reportOutputs, testTable, this.requiredTags, options );
+            if ( fingerprintFile != null ) {
+                ReportFingerprint.write( fingerprintFile, fingerprint, testTable.getFoundTags(), outputFiles );
+            }
+
+            // Check for required tags
+            if (requiredTags != null && !requiredTags.isEmpty()) {
+                TagCheckFacade.checkRequiredTags( this.requiredTags, this.failOnMissingTag, testTable);
+            }
+
+            for ( ReportOutput reportOutput : reportOutputs ) {
+                getLog().info("Executed Test Tag Report generated: " +
+                        reportOutput.getOutputFile().getAbsolutePath());
+            }
+
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error generating executed test tag report", e);
+        }
+    }
+
+    private String computeFingerprint(List<ReportOutput> reportOutputs, ReportOptions options) throws IOException, DependencyResolutionRequiredException {
+        ReportFingerprint fingerprint = new ReportFingerprint()
+                .addValue( "pluginVersion", ExecutedTestTagReporterMojo.class.getPackage().getImplementationVersion() )
+                .addCodeSource( "plugin", ExecutedTestTagReporterMojo.class )
+                .addValue( "outputs", reportOutputs )
+                .addValue( "requiredTags", this.requiredTags )
+                .addValue( "includeSkipped", options.isIncludeSkipped() )
+                .addValue( "prettyPrint", options.isPrettyPrint() )
+                .addValue( "sections", options.getSections() )
+                .addValue( "maxTestsPerTag", options.getMaxTestsPerTag() )
+                .addValue( "slowestTests", options.getSlowestTests() )
+                .addValue( "surefireParser", this.surefireParser )
+                .addValue( "scanMode", this.scanMode )
+                .addValue( "tagSource", this.tagSource )
+                // the text report uses the default locale and line separator
+                .addValue( "locale", Locale.getDefault( Locale.Category.FORMAT ) )
+                .addValue( "lineSeparator", System.lineSeparator() )
+                .addDirectory( "surefireReports", this.surefireReportsDirectory, ".xml" )
+                .addDirectory( "capture", this.captureDirectory, TagCapture.FILE_SUFFIX );
+        if ( project.getBuild() != null && project.getBuild().getTestOutputDirectory() != null ) {
+            fingerprint.addDirectory( "testClasses", new File( project.getBuild().getTestOutputDirectory() ), null );
+            fingerprint.addClasspath( "testClasspath", project.getTestClasspathElements() );
+        }
+        return fingerprint.getHash();
+    }
+
+    private List<String> checkSections() throws MojoExecutionException {
+        return checkSections( this.sections );
+    }
+
+    static List<String> checkSections(List<String> sections) throws MojoExecutionException {
+        if ( sections != null ) {
+            for ( String section : sections ) {
+                if ( !ReportOptions.SECTIONS.contains( section ) ) {
+                    throw new MojoExecutionException( "Unknown section : " + section + ", accepted sections : " + ReportOptions.SECTIONS );
+                }
+            }
+        }
+        return sections;
+    }
+
+    private List<ReportOutput> getReportOutputs() throws MojoExecutionException {
+        return getReportOutputs( this.outputs, this.format, this.outputFile );
+    }
+
+    static List<ReportOutput> getReportOutputs(List<ReportOutput> outputs, String format, File outputFile) throws MojoExecutionException {
+        if ( outputs == null || outputs.isEmpty() ) {
+            return Collections.singletonList( new ReportOutput( format, outputFile ) );
+        }
+        for ( ReportOutput output : outputs ) {
+            if ( output.getFormat() == null || output.getOutputFile() == null ) {
+                throw new MojoExecutionException( "format and outputFile are required for each output : " + output );
+            }
+        }
+        return outputs;
+    }
+
+    private CollectOptions getCollectOptions() {
+        CollectOptions collectOptions = new CollectOptions();
+        collectOptions.setIncludeSkipped( this.includeSkipped );
+        collectOptions.setSurefireParser( this.surefireParser );
+        collectOptions.setParseThreads( this.parseThreads );
+        collectOptions.setScanMode( this.scanMode );
+        collectOptions.setTagSource( this.tagSource );
+        return collectOptions;
+    }
+
+    private ModuleSource getModuleSource() throws DependencyResolutionRequiredException {
+        File testOutputDirectory = project.getBuild() != null && project.getBuild().getTestOutputDirectory() != null ?
+                new File( project.getBuild().getTestOutputDirectory() ) : null;
+        return new ModuleSource( project.getArtifactId(), this.surefireReportsDirectory, this.captureDirectory, testOutputDirectory,
+                project.getTestClasspathElements(), this.parseCache ? this.parseCacheFile : null );
+    }
+
+}
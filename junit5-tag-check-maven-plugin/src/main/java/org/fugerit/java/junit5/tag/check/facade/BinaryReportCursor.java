@@ -0,0 +1,60 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.BinaryReport;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Cursor over the executed tests of a binary report (memory-mapped).
+ */
+public class BinaryReportCursor implements ReportCursor {
+
+    private final BinaryReport report;
+
+    private int row = -1;
+
+    private ExecutedTest test;
+
+    private Set<String> tags;
+
+    public BinaryReportCursor(File reportFile) throws IOException {
+        this( BinaryReport.open( reportFile ) );
+    }
+
+    public BinaryReportCursor(BinaryReport report) {
+        this.report = report;
+    }
+
+    @Override
+    public boolean next() {
+        if ( this.row + 1 < this.report.size() ) {
+            this.row++;
+            this.test = this.report.getTest( this.row );
+            this.tags = this.report.getTags( this.row );
+            return true;
+        }
+        this.row = this.report.size();
+        this.test = null;
+        this.tags = null;
+        return false;
+    }
+
+    @Override
+    public ExecutedTest getTest() {
+        return test;
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public void close() {
+        // the mapping is released when the report is garbage collected
+    }
+
+}
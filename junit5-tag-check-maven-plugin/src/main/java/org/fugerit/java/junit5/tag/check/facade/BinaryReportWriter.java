@@ -0,0 +1,163 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.BinaryReport;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportSummary;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Binary report writer ('binary' format), see {@link BinaryReport} for the layout.
+ *
+ * Sections are written sequentially, the header (containing the section offsets) is written last.
+ * The report is memory-mapped by the reader, so its size is checked against the 2 GB limit before writing
+ * (int offsets, and DataOutputStream.size() saturates at Integer.MAX_VALUE).
+ * Records are written ordered by class and method name (see ExecutedTest.NAME_ORDER), so that the reports
+ * can be merged by ReportMergeFacade.
+ */
+public class BinaryReportWriter {
+
+    private BinaryReportWriter() {}
+
+    public static void write(File outputFile, ReportHelper helper) throws IOException {
+        TestTable table = helper.getTestTable();
+        ReportSummary summary = helper.getSummary();
+        List<String> tags = table.getDictionary().getTags();
+        int tagWords = ( tags.size() + 63 ) / 64;
+        int recordSize = BinaryReport.RECORD_FIXED_SIZE + tagWords * 8;
+        int[] rows = table.getRowsByName();
+
+        // class and method names are written once, tests refer to them by index
+        Map<String, Integer> classes = new LinkedHashMap<>();
+        Map<String, Integer> methods = new LinkedHashMap<>();
+        for ( int row : rows ) {
+            ExecutedTest test = table.getTest( row );
+            classes.putIfAbsent( nonNull( test.getClassName() ), classes.size() );
+            methods.putIfAbsent( nonNull( test.getMethodName() ), methods.size() );
+        }
+
+        long reportSize = BinaryReport.HEADER_SIZE + stringTableSize( tags ) + stringTableSize( classes.keySet() )
+                + stringTableSize( methods.keySet() ) + (long) table.size() * recordSize + (long) tags.size() * BinaryReport.TAG_STATS_SIZE;
+        if ( reportSize > Integer.MAX_VALUE ) {
+            throw new IOException( String.format( "Binary report too large : %s bytes, the limit is %s bytes (%s tests, %s tags)",
+                    reportSize, Integer.MAX_VALUE, table.size(), tags.size() ) );
+        }
+
+        int[] offsets = new int[5];
+        try (DataOutputStream output = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( outputFile ) ) )) {
+            output.write( new byte[BinaryReport.HEADER_SIZE] );
+            offsets[0] = output.size();
+            writeStringTable( output, tags );
+            offsets[1] = output.size();
+            writeStringTable( output, classes.keySet() );
+            offsets[2] = output.size();
+            writeStringTable( output, methods.keySet() );
+            offsets[3] = output.size();
+            long[] words = new long[tagWords];
+            for ( int row : rows ) {
+                ExecutedTest test = table.getTest( row );
+                output.writeInt( classes.get( nonNull( test.getClassName() ) ) );
+                output.writeInt( methods.get( nonNull( test.getMethodName() ) ) );
+                output.writeLong( test.getTimeMicros() );
+                output.writeByte( test.getFlags() );
+                output.writeByte( test.getTimeScale() );
+                output.write( new byte[6] );
+                // tag bitset words filled from the shared tag set of the row (no copy)
+                Arrays.fill( words, 0L );
+                for ( int id = table.nextTagId( row, 0 ); id >= 0; id = table.nextTagId( row, id + 1 ) ) {
+                    words[id >>> 6] |= 1L << id;
+                }
+                for ( long word : words ) {
+                    output.writeLong( word );
+                }
+            }
+            offsets[4] = output.size();
+            // stats computed while the tests were collected, shared with the other report formats
+            Map<String, TestStats> tagStats = summary.getTagStats();
+            for ( String tag : tags ) {
+                TestStats stats = tagStats.containsKey( tag ) ? tagStats.get( tag ) : table.getStats( tag );
+                output.writeInt( stats.getTotal() );
+                output.writeInt( stats.getFailed() );
+                output.writeInt( stats.getErrors() );
+                output.writeInt( stats.getSkipped() );
+            }
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile( outputFile, "rw" )) {
+            file.writeInt( BinaryReport.MAGIC );
+            file.writeShort( BinaryReport.VERSION );
+            file.writeShort( 0 );
+            file.writeInt( table.size() );
+            file.writeInt( tags.size() );
+            file.writeInt( tagWords );
+            file.writeInt( recordSize );
+            file.writeInt( summary.getPassed() );
+            file.writeInt( summary.getFailed() );
+            file.writeInt( summary.getErrors() );
+            file.writeInt( summary.getSkipped() );
+            file.writeInt( summary.getWithoutTags() );
+            for ( int offset : offsets ) {
+                file.writeInt( offset );
+            }
+        }
+    }
+
+    /*
+     * count, blob length, blob, offsets (the offsets follow the blob, so that they are known when written)
+     */
+    private static void writeStringTable(DataOutputStream output, Collection<String> values) throws IOException {
+        List<byte[]> encoded = new ArrayList<>( values.size() );
+        int blobLength = 0;
+        for ( String value : values ) {
+            byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+            encoded.add( bytes );
+            blobLength += bytes.length;
+        }
+        output.writeInt( values.size() );
+        output.writeInt( blobLength );
+        int[] starts = new int[encoded.size() + 1];
+        for ( int k = 0; k < encoded.size(); k++ ) {
+            output.write( encoded.get( k ) );
+            starts[k + 1] = starts[k] + encoded.get( k ).length;
+        }
+        for ( int start : starts ) {
+            output.writeInt( start );
+        }
+    }
+
+    private static long stringTableSize(Collection<String> values) {
+        long size = 8L + 4L * ( values.size() + 1 );
+        for ( String value : values ) {
+            size += utf8Length( value );
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for ( int k = 0; k < value.length(); k++ ) {
+            char c = value.charAt( k );
+            if ( c < 0x80 ) {
+                length += 1;
+            } else if ( c < 0x800 ) {
+                length += 2;
+            } else if ( Character.isHighSurrogate( c ) && k + 1 < value.length() && Character.isLowSurrogate( value.charAt( k + 1 ) ) ) {
+                length += 4;
+                k++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static String nonNull(String value) {
+        return value == null ? "" : value;
+    }
+
+}
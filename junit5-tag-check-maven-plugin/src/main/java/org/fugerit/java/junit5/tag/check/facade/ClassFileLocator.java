@@ -0,0 +1,102 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Finds and reads class files from directories and jar files, without loading classes.
+ *
+ * Read class files are cached, the locator is thread-safe.
+ */
+@Slf4j
+public class ClassFileLocator implements Closeable {
+
+    private static final ClassTagInfo NOT_FOUND = new ClassTagInfo(null, null, null, null);
+
+    private final List<File> classpathElements;
+
+    private final Map<String, JarFile> jarFiles;
+
+    private final Map<String, ClassTagInfo> classInfos;
+
+    public ClassFileLocator(List<File> classpathElements) {
+        this.classpathElements = new ArrayList<>(classpathElements);
+        this.jarFiles = new ConcurrentHashMap<>();
+        this.classInfos = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the tag information of a class
+     *
+     * @param className the binary name of the class
+     * @return the tag information, or null if the class file is not found (or cannot be read from any classpath element)
+     */
+    public ClassTagInfo getClassTagInfo(String className) {
+        ClassTagInfo info = this.classInfos.computeIfAbsent(className, this::readClassTagInfo);
+        return info == NOT_FOUND ? null : info;
+    }
+
+    private ClassTagInfo readClassTagInfo(String className) {
+        String classFileName = className.replace('.', '/') + ".class";
+        for (File element : this.classpathElements) {
+            try {
+                if (element.isDirectory()) {
+                    File classFile = new File(element, classFileName);
+                    if (classFile.isFile()) {
+                        try (InputStream is = new FileInputStream(classFile)) {
+                            return ClassFileTagReader.read(is);
+                        }
+                    }
+                } else if (element.isFile() && element.getName().endsWith(".jar")) {
+                    JarFile jarFile = this.getJarFile(element);
+                    JarEntry entry = jarFile.getJarEntry(classFileName);
+                    if (entry != null) {
+                        try (InputStream is = jarFile.getInputStream(entry)) {
+                            return ClassFileTagReader.read(is);
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // unreadable (or unsupported) class file, the next classpath elements are tried
+                log.warn("Could not read class file : {} from {} - {}", classFileName, element, e.getMessage());
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private JarFile getJarFile(File element) throws IOException {
+        String path = element.getAbsolutePath();
+        JarFile jarFile = this.jarFiles.get(path);
+        if (jarFile == null) {
+            synchronized (this.jarFiles) {
+                jarFile = this.jarFiles.get(path);
+                if (jarFile == null) {
+                    jarFile = new JarFile(element);
+                    this.jarFiles.put(path, jarFile);
+                }
+            }
+        }
+        return jarFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (JarFile jarFile : this.jarFiles.values()) {
+            jarFile.close();
+        }
+        this.jarFiles.clear();
+    }
+
+}
@@ -0,0 +1,246 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads JUnit 5 @Tag / @Tags annotations directly from a class file, without loading the class.
+ *
+ * Only the constant pool and the 'RuntimeVisibleAnnotations' attributes of the class and of its methods are read,
+ * any other attribute (for instance the methods code) is skipped.
+ *
+ * See : https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html
+ */
+public class ClassFileTagReader {
+
+    private ClassFileTagReader() {}
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String ATTRIBUTE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final String DESCRIPTOR_TAG = "Lorg/junit/jupiter/api/Tag;";
+
+    private static final String DESCRIPTOR_TAGS = "Lorg/junit/jupiter/api/Tags;";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    public static ClassTagInfo read(InputStream is) throws IOException {
+        DataInputStream input = new DataInputStream(is);
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort(); // minor version
+        input.readUnsignedShort(); // major version
+        ConstantPool pool = readConstantPool(input);
+        input.readUnsignedShort(); // access flags
+        String className = pool.getClassName(input.readUnsignedShort());
+        int superClassIndex = input.readUnsignedShort();
+        String superClassName = superClassIndex == 0 ? null : pool.getClassName(superClassIndex);
+        skipFully(input, 2L * input.readUnsignedShort()); // interfaces
+        // fields
+        int fieldsCount = input.readUnsignedShort();
+        for (int k = 0; k < fieldsCount; k++) {
+            skipFully(input, 6); // access flags, name, descriptor
+            skipAttributes(input);
+        }
+        // methods
+        Map<String, List<String>> methodTags = new LinkedHashMap<>();
+        int methodsCount = input.readUnsignedShort();
+        for (int k = 0; k < methodsCount; k++) {
+            input.readUnsignedShort(); // access flags
+            String methodName = pool.getUtf8(input.readUnsignedShort());
+            input.readUnsignedShort(); // descriptor
+            List<String> tags = readTags(input, pool);
+            if (!methodTags.containsKey(methodName)) {
+                methodTags.put(methodName, tags);
+            }
+        }
+        List<String> classTags = readTags(input, pool);
+        return new ClassTagInfo(className, superClassName, classTags, methodTags);
+    }
+
+    private static ConstantPool readConstantPool(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        ConstantPool pool = new ConstantPool(count);
+        for (int k = 1; k < count; k++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    pool.utf8[k] = input.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    pool.classNameIndex[k] = input.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skipFully(input, 2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skipFully(input, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELD_REF:
+                case CONSTANT_METHOD_REF:
+                case CONSTANT_INTERFACE_METHOD_REF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skipFully(input, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skipFully(input, 8);
+                    k++; // 8 bytes constants take two entries
+                    break;
+                default:
+                    throw new IOException("Unsupported constant pool tag : " + tag);
+            }
+        }
+        return pool;
+    }
+
+    /*
+     * Reads the attributes of a class or a method, returning the tags found in 'RuntimeVisibleAnnotations'.
+     */
+    private static List<String> readTags(DataInputStream input, ConstantPool pool) throws IOException {
+        List<String> tags = new ArrayList<>();
+        int attributesCount = input.readUnsignedShort();
+        for (int k = 0; k < attributesCount; k++) {
+            String attributeName = pool.getUtf8(input.readUnsignedShort());
+            long length = input.readInt() & 0xFFFFFFFFL;
+            if (ATTRIBUTE_ANNOTATIONS.equals(attributeName)) {
+                int annotationsCount = input.readUnsignedShort();
+                for (int i = 0; i < annotationsCount; i++) {
+                    readAnnotation(input, pool, tags);
+                }
+            } else {
+                skipFully(input, length);
+            }
+        }
+        return tags;
+    }
+
+    private static void readAnnotation(DataInputStream input, ConstantPool pool, List<String> tags) throws IOException {
+        String type = pool.getUtf8(input.readUnsignedShort());
+        int pairsCount = input.readUnsignedShort();
+        for (int k = 0; k < pairsCount; k++) {
+            String elementName = pool.getUtf8(input.readUnsignedShort());
+            boolean tagValue = "value".equals(elementName) && (DESCRIPTOR_TAG.equals(type) || DESCRIPTOR_TAGS.equals(type));
+            readElementValue(input, pool, tagValue ? tags : null);
+        }
+    }
+
+    /*
+     * Reads an element value, string values (and nested @Tag annotations values) are added to tags when not null.
+     */
+    private static void readElementValue(DataInputStream input, ConstantPool pool, List<String> tags) throws IOException {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 's':
+                String value = pool.getUtf8(input.readUnsignedShort());
+                if (tags != null) {
+                    tags.add(value);
+                }
+                break;
+            case 'B':
+            case 'C':
+            case 'D':
+            case 'F':
+            case 'I':
+            case 'J':
+            case 'S':
+            case 'Z':
+            case 'c':
+                skipFully(input, 2);
+                break;
+            case 'e':
+                skipFully(input, 4);
+                break;
+            case '@':
+                // nested annotations (@Tags value) : only @Tag values are collected
+                readAnnotation(input, pool, tags == null ? new ArrayList<>() : tags);
+                break;
+            case '[':
+                int valuesCount = input.readUnsignedShort();
+                for (int k = 0; k < valuesCount; k++) {
+                    readElementValue(input, pool, tags);
+                }
+                break;
+            default:
+                throw new IOException("Unsupported element value tag : " + (char) tag);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int attributesCount = input.readUnsignedShort();
+        for (int k = 0; k < attributesCount; k++) {
+            input.readUnsignedShort(); // name
+            skipFully(input, input.readInt() & 0xFFFFFFFFL);
+        }
+    }
+
+    private static void skipFully(DataInputStream input, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                // skip() may return 0 before the end of the stream, read() tells if the stream is over
+                if (input.read() < 0) {
+                    throw new IOException("Unexpected end of class file");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static final class ConstantPool {
+
+        private final String[] utf8;
+
+        private final int[] classNameIndex;
+
+        private ConstantPool(int count) {
+            this.utf8 = new String[count];
+            this.classNameIndex = new int[count];
+        }
+
+        private String getUtf8(int index) {
+            return this.utf8[index];
+        }
+
+        private String getClassName(int index) {
+            // internal name (java/lang/Object) to binary name (java.lang.Object)
+            return this.utf8[this.classNameIndex[index]].replace('/', '.');
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.junit.jupiter.api.Tag;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Tags of the methods of a test class, with class level tags already merged.
+ *
+ * The index is built once for each test class and then shared by all the executed tests of the class.
+ */
+public class ClassTagIndex {
+
+    private final Map<String, Set<String>> methodTags;
+
+    private ClassTagIndex(Map<String, Set<String>> methodTags) {
+        this.methodTags = methodTags;
+    }
+
+    /**
+     * Returns the tags of a method
+     *
+     * @param methodName    the method name
+     * @return the tags of the method (class level tags included), or null if the method is not found
+     */
+    public Set<String> getTags(String methodName) {
+        return this.methodTags.get(methodName);
+    }
+
+    public static ClassTagIndex fromClass(Class<?> testClass) {
+        Map<String, Set<String>> methodTags = new HashMap<>();
+        Tag[] classTags = testClass.getAnnotationsByType(Tag.class);
+        // declared methods first, then parent classes (the first method found with a given name wins)
+        Class<?> currentClass = testClass;
+        while (currentClass != null && currentClass != Object.class) {
+            for (Method method : currentClass.getDeclaredMethods()) {
+                if (!methodTags.containsKey(method.getName())) {
+                    methodTags.put(method.getName(), getMethodTags(method, classTags));
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return new ClassTagIndex(methodTags);
+    }
+
+    /**
+     * Creates the index from class files information, with the same rules used for reflection :
+     * <ul>
+     *     <li>methods are searched in the class, then in the parent classes</li>
+     *     <li>class level tags are inherited from the parent classes only if the class does not declare any tag (@Tag is @Inherited)</li>
+     * </ul>
+     *
+     * @param classInfo the class information
+     * @param locator   the function used to find the parent classes information (returning null when not found)
+     * @return the index
+     */
+    public static ClassTagIndex fromClassInfo(ClassTagInfo classInfo, Function<String, ClassTagInfo> locator) {
+        List<ClassTagInfo> hierarchy = new ArrayList<>();
+        ClassTagInfo currentInfo = classInfo;
+        while (currentInfo != null) {
+            hierarchy.add(currentInfo);
+            String superClassName = currentInfo.getSuperClassName();
+            currentInfo = superClassName == null || Object.class.getName().equals(superClassName) ? null : locator.apply(superClassName);
+        }
+        List<String> classTags = Collections.emptyList();
+        for (ClassTagInfo info : hierarchy) {
+            if (!info.getClassTags().isEmpty()) {
+                classTags = info.getClassTags();
+                break;
+            }
+        }
+        Map<String, Set<String>> methodTags = new HashMap<>();
+        for (ClassTagInfo info : hierarchy) {
+            for (Map.Entry<String, List<String>> entry : info.getMethodTags().entrySet()) {
+                if (!methodTags.containsKey(entry.getKey())) {
+                    Set<String> tags = new HashSet<>(entry.getValue());
+                    tags.addAll(classTags);
+                    methodTags.put(entry.getKey(), Collections.unmodifiableSet(tags));
+                }
+            }
+        }
+        return new ClassTagIndex(methodTags);
+    }
+
+    private static Set<String> getMethodTags(Method testMethod, Tag[] classTags) {
+        Set<String> tags = new HashSet<>();
+        // Get tags from method
+        for (Tag tag : testMethod.getAnnotationsByType(Tag.class)) {
+            tags.add(tag.value());
+        }
+        // Get tags from class
+        for (Tag tag : classTags) {
+            tags.add(tag.value());
+        }
+        return Collections.unmodifiableSet(tags);
+    }
+
+}
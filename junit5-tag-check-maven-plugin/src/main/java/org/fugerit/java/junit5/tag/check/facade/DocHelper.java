@@ -15,14 +15,23 @@ public class DocHelper {
 
      /*
       * FreemarkerDocProcessConfig is thread-safe and should be initialized once for each config file.
-      * 
-      * Consider using a @ApplicationScoped or Singleton approach.
+      *
+      * The config is loaded lazily, once for each plugin class loader, and shared by all the DocHelper instances :
+      * the freemarker template cache and the type handlers (including the FOP factory of the pdf handler)
+      * are reused by all the modules of a reactor build, and across builds in a long-lived JVM (mvnd).
       */
-     private final FreemarkerDocProcessConfig docProcessConfig = FreemarkerDocProcessConfigFacade
-            .loadConfigSafe("cl://junit5-tag-check-maven-plugin/fm-doc-process-config.xml");
+     private static final class DocProcessConfigHolder {
+          private static final FreemarkerDocProcessConfig DOC_PROCESS_CONFIG = FreemarkerDocProcessConfigFacade
+                  .loadConfigSafe("cl://junit5-tag-check-maven-plugin/fm-doc-process-config.xml");
+          private DocProcessConfigHolder() {}
+     }
+
+     public static FreemarkerDocProcessConfig getDocProcessConfig() {
+          return DocProcessConfigHolder.DOC_PROCESS_CONFIG;
+     }
 
      public void generateReport(String handlerId, ReportHelper reportHelper, OutputStream os ) {
-          SafeFunction.apply( () -> docProcessConfig.
+          SafeFunction.apply( () -> getDocProcessConfig().
                   fullProcess( "report",
                           DocProcessContext.newContext( "report", reportHelper )
                                   .withDocType( handlerId ), handlerId, os ) );
@@ -0,0 +1,57 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.dom4j.Document;
+import org.dom4j.Element;
+import org.dom4j.io.SAXReader;
+import org.fugerit.java.core.function.SafeFunction;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Surefire report parser based on dom4j, the full document is loaded in memory.
+ */
+public class DomSurefireReportParser implements SurefireReportParser {
+
+    private final SAXReader reader;
+
+    private final NameInterner classNames = new NameInterner();
+
+    public DomSurefireReportParser() {
+        this.reader = new SAXReader();
+        SafeFunction.apply( () -> this.reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", Boolean.TRUE ) );
+    }
+
+    @Override
+    public void parse(File reportFile, Consumer<ExecutedTest> consumer) throws Exception {
+        Document document = reader.read(reportFile);
+        Element root = document.getRootElement();
+
+        String className = root.attributeValue("name");
+
+        @SuppressWarnings("unchecked")
+        List<Element> testCases = root.elements("testcase");
+
+        for (Element testCase : testCases) {
+            String methodName = testCase.attributeValue("name");
+            String testClassName = testCase.attributeValue("classname", className);
+            String time = testCase.attributeValue("time");
+
+            boolean skipped = testCase.element("skipped") != null;
+            boolean failed = testCase.element("failure") != null;
+            boolean error = testCase.element("error") != null;
+
+            consumer.accept( ExecutedTest.of(
+                    this.classNames.intern(testClassName),
+                    methodName,
+                    skipped,
+                    failed,
+                    error,
+                    time
+            ) );
+        }
+    }
+
+}
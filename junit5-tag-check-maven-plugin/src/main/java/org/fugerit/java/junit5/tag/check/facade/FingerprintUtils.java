@@ -0,0 +1,53 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class FingerprintUtils {
+
+    private FingerprintUtils() {}
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance( ALGORITHM );
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required on every java platform
+            throw new IllegalStateException( e );
+        }
+    }
+
+    public static String hash(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64*1024];
+        try (InputStream is = new FileInputStream(file)) {
+            int read;
+            while ((read = is.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static String hash(String text) {
+        return toHex(newDigest().digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static String toHex(byte[] data) {
+        char[] res = new char[data.length*2];
+        for (int k = 0; k < data.length; k++) {
+            res[k*2] = HEX[(data[k] >> 4) & 0xF];
+            res[k*2+1] = HEX[data[k] & 0xF];
+        }
+        return new String(res);
+    }
+
+}
@@ -0,0 +1,326 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportSummary;
+import org.fugerit.java.junit5.tag.check.model.TagCheckResult;
+import org.fugerit.java.junit5.tag.check.model.TagDictionary;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Paged HTML report writer, for large suites.
+ *
+ * Only the summary tables are written as HTML, the executed tests are written once as a compact JSON data island
+ * (class names and tags are dictionary encoded) and rendered a page at a time by the browser,
+ * with filtering by tag and search.
+ *
+ * Data island layout :
+ * <pre>
+ * { "classes" : [ "..." ], "tags" : [ "..." ], "tests" : [ [ classIndex, "method", status, time, [ tagIndex ] ] ] }
+ * </pre>
+ * where status is 0 (passed), 1 (failed), 2 (error) or 3 (skipped) and time is in seconds.
+ */
+public class HtmlPagedReportWriter {
+
+    public static final int STATUS_PASSED = 0;
+
+    public static final int STATUS_FAILED = 1;
+
+    public static final int STATUS_ERROR = 2;
+
+    public static final int STATUS_SKIPPED = 3;
+
+    private static final String TITLE = "Executed Test Tag Report";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String STYLE = "body { font-family: Arial, sans-serif; margin: 20px; }\n" +
+            "table { border-collapse: collapse; width: 100%; margin: 20px 0; }\n" +
+            "th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n" +
+            "th { background-color: #4CAF50; color: white; }\n" +
+            "tr:nth-child(even) { background-color: #f2f2f2; }\n" +
+            ".pass { color: green; }\n" +
+            ".fail { color: red; }\n" +
+            ".error { color: orange; }\n" +
+            ".skip { color: gray; }\n" +
+            ".tag { background-color: #e7f3ff; padding: 2px 8px; border-radius: 3px; margin: 2px; display: inline-block; }\n" +
+            ".toolbar { margin: 10px 0; }\n" +
+            ".toolbar input, .toolbar select, .toolbar button { margin-right: 10px; }\n";
+
+    private static final String SCRIPT = "(function () {\n" +
+            "  var data = JSON.parse(document.getElementById('tests-data').textContent);\n" +
+            "  var STATUS = [['✅', 'pass'], ['❌', 'fail'], ['⚠️', 'error'], ['⊘', 'skip']];\n" +
+            "  var tagSelect = document.getElementById('tag-filter');\n" +
+            "  var searchInput = document.getElementById('search');\n" +
+            "  var pageSizeSelect = document.getElementById('page-size');\n" +
+            "  var body = document.getElementById('tests-body');\n" +
+            "  var pageInfo = document.getElementById('page-info');\n" +
+            "  var names = data.tests.map(function (t) { return (data.classes[t[0]] + '#' + t[1]).toLowerCase(); });\n" +
+            "  var filtered = [];\n" +
+            "  var page = 0;\n" +
+            "  data.tags.forEach(function (tag, i) {\n" +
+            "    var option = document.createElement('option');\n" +
+            "    option.value = String(i);\n" +
+            "    option.textContent = tag;\n" +
+            "    tagSelect.appendChild(option);\n" +
+            "  });\n" +
+            "  function cell(row, text, className) {\n" +
+            "    var td = document.createElement('td');\n" +
+            "    td.textContent = text;\n" +
+            "    if (className) { td.className = className; }\n" +
+            "    row.appendChild(td);\n" +
+            "    return td;\n" +
+            "  }\n" +
+            "  function applyFilter() {\n" +
+            "    var tag = tagSelect.value;\n" +
+            "    var text = searchInput.value.toLowerCase();\n" +
+            "    filtered = [];\n" +
+            "    for (var i = 0; i < data.tests.length; i++) {\n" +
+            "      var tags = data.tests[i][4];\n" +
+            "      if (tag === '-1' && tags.length > 0) { continue; }\n" +
+            "      if (tag !== '' && tag !== '-1' && tags.indexOf(Number(tag)) < 0) { continue; }\n" +
+            "      if (text !== '' && names[i].indexOf(text) < 0) { continue; }\n" +
+            "      filtered.push(i);\n" +
+            "    }\n" +
+            "    page = 0;\n" +
+            "    render();\n" +
+            "  }\n" +
+            "  function render() {\n" +
+            "    var size = Number(pageSizeSelect.value);\n" +
+            "    var pages = Math.max(1, Math.ceil(filtered.length / size));\n" +
+            "    page = Math.min(Math.max(page, 0), pages - 1);\n" +
+            "    var start = page * size;\n" +
+            "    var end = Math.min(start + size, filtered.length);\n" +
+            "    while (body.firstChild) { body.removeChild(body.firstChild); }\n" +
+            "    for (var i = start; i < end; i++) {\n" +
+            "      var t = data.tests[filtered[i]];\n" +
+            "      var row = document.createElement('tr');\n" +
+            "      cell(row, STATUS[t[2]][0], STATUS[t[2]][1]);\n" +
+            "      cell(row, data.classes[t[0]] + '#' + t[1]);\n" +
+            "      var tags = cell(row, '');\n" +
+            "      t[4].forEach(function (tagIndex) {\n" +
+            "        var span = document.createElement('span');\n" +
+            "        span.className = 'tag';\n" +
+            "        span.textContent = data.tags[tagIndex];\n" +
+            "        tags.appendChild(span);\n" +
+            "      });\n" +
+            "      cell(row, t[3] + 's');\n" +
+            "      body.appendChild(row);\n" +
+            "    }\n" +
+            "    pageInfo.textContent = (filtered.length === 0 ? 0 : start + 1) + '-' + end + ' of ' + filtered.length + ' (page ' + (page + 1) + ' of ' + pages + ')';\n" +
+            "  }\n" +
+            "  tagSelect.addEventListener('change', applyFilter);\n" +
+            "  searchInput.addEventListener('input', applyFilter);\n" +
+            "  pageSizeSelect.addEventListener('change', render);\n" +
+            "  document.getElementById('page-prev').addEventListener('click', function () { page--; render(); });\n" +
+            "  document.getElementById('page-next').addEventListener('click', function () { page++; render(); });\n" +
+            "  applyFilter();\n" +
+            "})();\n";
+
+    private HtmlPagedReportWriter() {}
+
+    public static void write(File outputFile, ReportHelper helper) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("<!doctype html>\n<html lang=\"en\">\n<head>\n<meta charset=\"UTF-8\">\n");
+            writer.write("<title>" + TITLE + "</title>\n");
+            writer.write("<style>\n" + STYLE + "</style>\n</head>\n<body>\n");
+            writer.write("<h1>" + TITLE + "</h1>\n");
+            if (helper.isSectionEnabled(ReportOptions.SECTION_SUMMARY)) {
+                writeSummary(writer, helper);
+            }
+            if (helper.isSectionEnabled(ReportOptions.SECTION_TAGS_SUMMARY)) {
+                writeTagsSummary(writer, helper.getSummary());
+            }
+            if (helper.isSectionEnabled(ReportOptions.SECTION_SLOWEST_TESTS) && helper.getOptions().getSlowestTests() > 0) {
+                writeSlowestTests(writer, helper);
+            }
+            if (helper.isSectionEnabled(ReportOptions.SECTION_ALL_TESTS)) {
+                writeAllTests(writer, helper);
+            }
+            writer.write("</body>\n</html>\n");
+        }
+    }
+
+    private static void writeAllTests(Writer writer, ReportHelper helper) throws IOException {
+        writer.write("<h2>All Executed Tests</h2>\n");
+        writer.write("<div class=\"toolbar\">\n");
+        writer.write("<select id=\"tag-filter\"><option value=\"\">All tags</option><option value=\"-1\">&lt;NO TAGS&gt;</option></select>\n");
+        writer.write("<input id=\"search\" type=\"search\" placeholder=\"Search test\">\n");
+        writer.write("<select id=\"page-size\"><option>50</option><option selected>100</option><option>500</option><option>1000</option></select>\n");
+        writer.write("<button id=\"page-prev\" type=\"button\">&lt;</button><button id=\"page-next\" type=\"button\">&gt;</button>\n");
+        writer.write("<span id=\"page-info\"></span>\n</div>\n");
+        writer.write("<table>\n<thead><tr><th>Status</th><th>Test</th><th>Tags</th><th>Time</th></tr></thead>\n");
+        writer.write("<tbody id=\"tests-body\"></tbody>\n</table>\n");
+        writer.write("<script type=\"application/json\" id=\"tests-data\">");
+        writeData(writer, helper.getTestTable());
+        writer.write("</script>\n");
+        writer.write("<script>\n" + SCRIPT + "</script>\n");
+    }
+
+    private static void writeSummary(Writer writer, ReportHelper helper) throws IOException {
+        ReportSummary summary = helper.getSummary();
+        TagCheckResult tagCheckResult = helper.getTagCheckResult();
+        writer.write("<h2>Summary</h2>\n<table>\n<tr><th>Metric</th><th>Count</th></tr>\n");
+        writer.write("<tr><td>Total Tests</td><td>" + summary.getTotal() + "</td></tr>\n");
+        writer.write("<tr><td>Passed</td><td class=\"pass\">" + summary.getPassed() + "</td></tr>\n");
+        writer.write("<tr><td>Failed</td><td class=\"fail\">" + summary.getFailed() + "</td></tr>\n");
+        writer.write("<tr><td>Errors</td><td class=\"error\">" + summary.getErrors() + "</td></tr>\n");
+        writer.write("<tr><td>General result</td><td class=\"" + (tagCheckResult.isResultOk() ? "pass" : "error") + "\">" +
+                escapeHtml(tagCheckResult.getMessage()) + "</td></tr>\n");
+        writer.write("</table>\n");
+    }
+
+    private static void writeTagsSummary(Writer writer, ReportSummary summary) throws IOException {
+        writer.write("<h2>Tags Summary</h2>\n");
+        if (summary.getTagStats().isEmpty()) {
+            return;
+        }
+        writer.write("<table>\n<tr><th>Tag</th><th>Tests</th><th>Passed</th><th>Failed</th><th>Errors</th>" +
+                "<th>Total (s)</th><th>Mean (s)</th><th>P50 (s)</th><th>P90 (s)</th><th>P99 (s)</th><th>Max (s)</th></tr>\n");
+        for (Map.Entry<String, TestStats> entry : summary.getTagStats().entrySet()) {
+            TestStats stats = entry.getValue();
+            int passed = stats.getTotal() - stats.getFailed() - stats.getErrors() - stats.getSkipped();
+            writer.write("<tr><td><span class=\"tag\">" + escapeHtml(entry.getKey()) + "</span></td><td>" + stats.getTotal() +
+                    "</td><td class=\"pass\">" + passed + "</td><td class=\"fail\">" + stats.getFailed() +
+                    "</td><td class=\"error\">" + stats.getErrors() + "</td><td>" + stats.getTotalTime() +
+                    "</td><td>" + stats.getMeanTime() + "</td><td>" + stats.getP50Time() + "</td><td>" + stats.getP90Time() +
+                    "</td><td>" + stats.getP99Time() + "</td><td>" + stats.getMaxTime() + "</td></tr>\n");
+        }
+        writer.write("</table>\n");
+    }
+
+    private static void writeSlowestTests(Writer writer, ReportHelper helper) throws IOException {
+        writer.write("<h2>Slowest Tests</h2>\n<table>\n<tr><th>Test</th><th>Time</th></tr>\n");
+        for (ExecutedTest test : helper.getSlowestTests()) {
+            writeSlowestTest(writer, "", test);
+        }
+        writer.write("</table>\n");
+        if (helper.getSlowestTestsByTag().isEmpty()) {
+            return;
+        }
+        writer.write("<h2>Slowest Tests by Tag</h2>\n<table>\n<tr><th>Tag</th><th>Test</th><th>Time</th></tr>\n");
+        for (Map.Entry<String, List<ExecutedTest>> entry : helper.getSlowestTestsByTag().entrySet()) {
+            String tagCell = "<td><span class=\"tag\">" + escapeHtml(entry.getKey()) + "</span></td>";
+            for (ExecutedTest test : entry.getValue()) {
+                writeSlowestTest(writer, tagCell, test);
+            }
+        }
+        writer.write("</table>\n");
+    }
+
+    private static void writeSlowestTest(Writer writer, String tagCell, ExecutedTest test) throws IOException {
+        writer.write("<tr>" + tagCell + "<td>" + escapeHtml(test.getClassName() + "#" + test.getMethodName()) +
+                "</td><td>" + test.getTime() + "s</td></tr>\n");
+    }
+
+    private static void writeData(Writer writer, TestTable table) throws IOException {
+        TagDictionary classes = new TagDictionary();
+        for (int row = 0; row < table.size(); row++) {
+            classes.add(table.getTest(row).getClassName());
+        }
+        // tag ids of the table are used as they are
+        TagDictionary tags = table.getDictionary();
+        JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+        // the data island must not close the script element
+        generator.setCharacterEscapes(ScriptCharacterEscapes.INSTANCE);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartObject();
+        writeStrings(generator, "classes", classes.getTags());
+        writeStrings(generator, "tags", tags.getTags());
+        generator.writeArrayFieldStart("tests");
+        for (int row = 0; row < table.size(); row++) {
+            ExecutedTest test = table.getTest(row);
+            generator.writeStartArray();
+            generator.writeNumber(classes.lookup(test.getClassName()));
+            generator.writeString(test.getMethodName());
+            generator.writeNumber(getStatus(test));
+            generator.writeNumber(test.getTime());
+            generator.writeStartArray();
+            for (int id = table.nextTagId(row, 0); id >= 0; id = table.nextTagId(row, id + 1)) {
+                generator.writeNumber(id);
+            }
+            generator.writeEndArray();
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private static void writeStrings(JsonGenerator generator, String fieldName, List<String> values) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+    private static int getStatus(ExecutedTest test) {
+        if (test.isFailed()) return STATUS_FAILED;
+        if (test.isError()) return STATUS_ERROR;
+        if (test.isSkipped()) return STATUS_SKIPPED;
+        return STATUS_PASSED;
+    }
+
+    private static String escapeHtml(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int k = 0; k < value.length(); k++) {
+            char c = value.charAt(k);
+            switch (c) {
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '&': escaped.append("&amp;"); break;
+                case '"': escaped.append("&quot;"); break;
+                default: escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /*
+     * '<', '>' and '&' are written as unicode escapes (for instance a '</script>' in a test name)
+     */
+    private static final class ScriptCharacterEscapes extends CharacterEscapes {
+
+        private static final ScriptCharacterEscapes INSTANCE = new ScriptCharacterEscapes();
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] asciiEscapes;
+
+        private ScriptCharacterEscapes() {
+            this.asciiEscapes = CharacterEscapes.standardAsciiEscapesForJSON();
+            this.asciiEscapes['<'] = CharacterEscapes.ESCAPE_STANDARD;
+            this.asciiEscapes['>'] = CharacterEscapes.ESCAPE_STANDARD;
+            this.asciiEscapes['&'] = CharacterEscapes.ESCAPE_STANDARD;
+        }
+
+        @Override
+        public int[] getEscapeCodesForAscii() {
+            return this.asciiEscapes;
+        }
+
+        @Override
+        public SerializableString getEscapeSequence(int ch) {
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Streaming cursor over the executed tests of a JSON report (as written by JsonReportWriter),
+ * only the current test is kept in memory.
+ */
+public class JsonReportCursor implements ReportCursor {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String FIELD_EXECUTED_TESTS = "executedTests";
+
+    private final File reportFile;
+
+    private final JsonParser parser;
+
+    private final NameInterner classNames;
+
+    private boolean inTests;
+
+    private boolean done;
+
+    private ExecutedTest test;
+
+    private Set<String> tags;
+
+    /**
+     * @param reportFile    the JSON report
+     * @throws IOException  in case of errors opening the report
+     */
+    public JsonReportCursor(File reportFile) throws IOException {
+        this( reportFile, new NameInterner() );
+    }
+
+    JsonReportCursor(File reportFile, NameInterner classNames) throws IOException {
+        this.reportFile = reportFile;
+        this.parser = JSON_FACTORY.createParser( reportFile );
+        this.classNames = classNames;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if ( !this.done && !this.inTests ) {
+            this.inTests = this.moveToTests();
+            this.done = !this.inTests;
+        }
+        if ( !this.done && this.parser.nextToken() == JsonToken.START_OBJECT ) {
+            this.readTest();
+            return true;
+        }
+        this.done = true;
+        this.test = null;
+        this.tags = null;
+        return false;
+    }
+
+    private boolean moveToTests() throws IOException {
+        if ( this.parser.currentToken() == null && this.parser.nextToken() != JsonToken.START_OBJECT ) {
+            throw new JsonParseException( this.parser, "JSON report expected : " + this.reportFile );
+        }
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME ) {
+            String field = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+            if ( FIELD_EXECUTED_TESTS.equals( field ) && value == JsonToken.START_ARRAY ) {
+                return true;
+            }
+            this.parser.skipChildren();
+        }
+        return false;
+    }
+
+    private void readTest() throws IOException {
+        String className = null;
+        String methodName = null;
+        BigDecimal time = BigDecimal.ZERO;
+        boolean skipped = false;
+        boolean failed = false;
+        boolean error = false;
+        Set<String> currentTags = Collections.emptySet();
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME ) {
+            String field = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+            if ( value == JsonToken.VALUE_NULL ) {
+                continue;
+            }
+            switch ( field ) {
+                case "class":
+                    className = this.classNames.intern( this.parser.getText() );
+                    break;
+                case "method":
+                    methodName = this.parser.getText();
+                    break;
+                case "time":
+                    time = this.parser.getDecimalValue();
+                    break;
+                case "skipped":
+                    skipped = this.parser.getBooleanValue();
+                    break;
+                case "failed":
+                    failed = this.parser.getBooleanValue();
+                    break;
+                case "error":
+                    error = this.parser.getBooleanValue();
+                    break;
+                case "tags":
+                    currentTags = this.readTags();
+                    break;
+                default:
+                    this.parser.skipChildren();
+            }
+        }
+        this.test = new ExecutedTest( className, methodName, skipped, failed, error, time );
+        this.tags = currentTags;
+    }
+
+    private Set<String> readTags() throws IOException {
+        Set<String> currentTags = new LinkedHashSet<>();
+        JsonToken token;
+        while ( ( token = this.parser.nextToken() ) != JsonToken.END_ARRAY && token != null ) {
+            if ( token == JsonToken.VALUE_STRING ) {
+                currentTags.add( this.parser.getText() );
+            }
+        }
+        return currentTags;
+    }
+
+    @Override
+    public ExecutedTest getTest() {
+        return test;
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public File getReportFile() {
+        return reportFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+
+}
@@ -0,0 +1,185 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming JSON report writer, each test is written as it is visited (no intermediate object model).
+ *
+ * Tests are written ordered by class and method name (see ExecutedTest.NAME_ORDER), so that the reports
+ * can be merged by ReportMergeFacade.
+ *
+ * The document has the same shape of the ReportModel serialization :
+ * <pre>
+ * { "executedTests" : [ { "class" : "...", "method" : "...", "time" : 0.123, "skipped" : false, "failed" : false, "error" : false, "tags" : [ "..." ] } ] }
+ * </pre>
+ *
+ * When tag stats are given, a 'tagsSummary' object follows the tests (durations in seconds) :
+ * <pre>
+ * "tagsSummary" : { "tag" : { "total" : 2, "failed" : 0, "errors" : 0, "skipped" : 0,
+ *     "duration" : { "total" : 0.3, "mean" : 0.15, "p50" : 0.1, "p90" : 0.2, "p99" : 0.2, "max" : 0.2 } } }
+ * </pre>
+ *
+ * When the slowest tests are given, they follow (slowest first) :
+ * <pre>
+ * "slowestTests" : [ { "class" : "...", "method" : "...", "time" : 0.2 } ],
+ * "slowestTestsByTag" : { "tag" : [ { "class" : "...", "method" : "...", "time" : 0.2 } ] }
+ * </pre>
+ */
+public class JsonReportWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonReportWriter() {}
+
+    public static void write(File outputFile, Map<ExecutedTest, Set<String>> testTagMap, boolean prettyPrint) throws IOException {
+        List<Map.Entry<ExecutedTest, Set<String>>> entries = new ArrayList<>(testTagMap.entrySet());
+        entries.sort(Map.Entry.comparingByKey(ExecutedTest.NAME_ORDER));
+        try (JsonGenerator generator = start(outputFile, prettyPrint)) {
+            for (Map.Entry<ExecutedTest, Set<String>> entry : entries) {
+                writeTest(generator, entry.getKey(), entry.getValue());
+            }
+            end(generator);
+        }
+    }
+
+    /**
+     * Writes all the executed tests, the stats of each tag and the slowest tests (if enabled) of a report.
+     *
+     * @param outputFile    the report file
+     * @param helper        the report data
+     * @param prettyPrint   true if the report should be indented
+     * @throws IOException  in case of errors writing the report
+     */
+    public static void write(File outputFile, ReportHelper helper, boolean prettyPrint) throws IOException {
+        boolean slowestTests = helper.getOptions().getSlowestTests() > 0;
+        TestTable table = helper.getTestTable();
+        try (JsonGenerator generator = start(outputFile, prettyPrint)) {
+            for (int row : table.getRowsByName()) {
+                writeTest(generator, table.getTest(row), table.getTags(row));
+            }
+            end(generator, helper.getTagsStats(), slowestTests ? helper.getSlowestTests() : null,
+                    slowestTests ? helper.getSlowestTestsByTag() : null);
+        }
+    }
+
+    /**
+     * Starts a report written a test at a time (for instance while merging partial reports),
+     * tests are added with writeTest() and the report is completed with end() before closing the generator.
+     *
+     * @param outputFile    the report file
+     * @param prettyPrint   true if the report should be indented
+     * @return the generator
+     * @throws IOException  in case of errors writing the report
+     */
+    public static JsonGenerator start(File outputFile, boolean prettyPrint) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputFile, JsonEncoding.UTF8);
+        if (prettyPrint) {
+            generator.useDefaultPrettyPrinter();
+        }
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("executedTests");
+        return generator;
+    }
+
+    public static void end(JsonGenerator generator) throws IOException {
+        end(generator, null);
+    }
+
+    /**
+     * @param generator     the generator returned by start()
+     * @param tagStats      the stats of each tag (no 'tagsSummary' is written if null)
+     * @throws IOException  in case of errors writing the report
+     */
+    public static void end(JsonGenerator generator, Map<String, TestStats> tagStats) throws IOException {
+        end(generator, tagStats, null, null);
+    }
+
+    /**
+     * @param generator         the generator returned by start()
+     * @param tagStats          the stats of each tag (no 'tagsSummary' is written if null)
+     * @param slowestTests      the slowest tests (no 'slowestTests' is written if null)
+     * @param slowestTestsByTag the slowest tests of each tag (no 'slowestTestsByTag' is written if null)
+     * @throws IOException      in case of errors writing the report
+     */
+    public static void end(JsonGenerator generator, Map<String, TestStats> tagStats,
+                           List<ExecutedTest> slowestTests, Map<String, List<ExecutedTest>> slowestTestsByTag) throws IOException {
+        generator.writeEndArray();
+        if (tagStats != null) {
+            generator.writeObjectFieldStart("tagsSummary");
+            for (Map.Entry<String, TestStats> entry : tagStats.entrySet()) {
+                writeTagStats(generator, entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+        if (slowestTests != null) {
+            writeSlowestTests(generator, "slowestTests", slowestTests);
+        }
+        if (slowestTestsByTag != null) {
+            generator.writeObjectFieldStart("slowestTestsByTag");
+            for (Map.Entry<String, List<ExecutedTest>> entry : slowestTestsByTag.entrySet()) {
+                writeSlowestTests(generator, entry.getKey(), entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeSlowestTests(JsonGenerator generator, String fieldName, List<ExecutedTest> tests) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (ExecutedTest test : tests) {
+            generator.writeStartObject();
+            generator.writeStringField("class", test.getClassName());
+            generator.writeStringField("method", test.getMethodName());
+            generator.writeNumberField("time", test.getTime());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeTagStats(JsonGenerator generator, String tag, TestStats stats) throws IOException {
+        generator.writeObjectFieldStart(tag);
+        generator.writeNumberField("total", stats.getTotal());
+        generator.writeNumberField("failed", stats.getFailed());
+        generator.writeNumberField("errors", stats.getErrors());
+        generator.writeNumberField("skipped", stats.getSkipped());
+        generator.writeObjectFieldStart("duration");
+        generator.writeNumberField("total", stats.getTotalTime());
+        generator.writeNumberField("mean", stats.getMeanTime());
+        generator.writeNumberField("p50", stats.getP50Time());
+        generator.writeNumberField("p90", stats.getP90Time());
+        generator.writeNumberField("p99", stats.getP99Time());
+        generator.writeNumberField("max", stats.getMaxTime());
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    public static void writeTest(JsonGenerator generator, ExecutedTest test, Set<String> tags) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("class", test.getClassName());
+        generator.writeStringField("method", test.getMethodName());
+        generator.writeNumberField("time", test.getTime());
+        generator.writeBooleanField("skipped", test.isSkipped());
+        generator.writeBooleanField("failed", test.isFailed());
+        generator.writeBooleanField("error", test.isError());
+        generator.writeArrayFieldStart("tags");
+        for (String tag : tags) {
+            generator.writeString(tag);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+}
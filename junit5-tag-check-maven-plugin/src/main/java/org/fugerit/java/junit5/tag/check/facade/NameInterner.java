@@ -0,0 +1,24 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Intern table for names repeated for each test case (for instance class names),
+ * so that a single String instance is kept for each distinct name.
+ *
+ * Not thread-safe, each parser has its own table.
+ */
+class NameInterner {
+
+    private final Map<String, String> names = new HashMap<>();
+
+    String intern(String name) {
+        if (name == null) {
+            return null;
+        }
+        String shared = this.names.putIfAbsent(name, name);
+        return shared == null ? name : shared;
+    }
+
+}
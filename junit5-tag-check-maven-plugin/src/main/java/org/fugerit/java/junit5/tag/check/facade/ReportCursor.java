@@ -0,0 +1,32 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Cursor over the executed tests of a report, only the current test is kept in memory.
+ */
+public interface ReportCursor extends Closeable {
+
+    /**
+     * Moves to the next executed test.
+     *
+     * @return true if a test is available, false at the end of the report
+     * @throws IOException  in case of errors reading the report
+     */
+    boolean next() throws IOException;
+
+    /**
+     * @return the current test (null before the first call to next() and at the end of the report)
+     */
+    ExecutedTest getTest();
+
+    /**
+     * @return the tags of the current test
+     */
+    Set<String> getTags();
+
+}
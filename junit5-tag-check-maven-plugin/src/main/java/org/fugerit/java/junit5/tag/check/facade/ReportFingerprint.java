@@ -0,0 +1,228 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.CodeSource;
+import java.util.*;
+
+/**
+ * Fingerprint of the report inputs (configuration values and metadata of the input files), used to skip
+ * the report generation when nothing changed since the last run.
+ *
+ * Only file metadata (path, size and last modified time) is hashed, the files are not read.
+ *
+ * The fingerprint is stored in a properties file next to the report, together with the tags found
+ * in the executed tests, so that the required tags can be checked again without parsing anything,
+ * and the size and last modified time of the generated reports, so that a report changed
+ * after the generation (edited, truncated or partially written) is generated again.
+ */
+@Slf4j
+public class ReportFingerprint {
+
+    public static final String FILE_SUFFIX = ".fingerprint";
+
+    private static final int VERSION = 2;
+
+    private static final String KEY_VERSION = "version";
+
+    private static final String KEY_FINGERPRINT = "fingerprint";
+
+    private static final String KEY_FOUND_TAGS = "foundTags";
+
+    private static final String KEY_OUTPUT_PREFIX = "output.";
+
+    /*
+     * JUnit tags can not contain ',' (reserved character)
+     */
+    private static final String TAG_SEPARATOR = ",";
+
+    private final MessageDigest digest;
+
+    public ReportFingerprint() {
+        this.digest = FingerprintUtils.newDigest();
+        this.addValue( KEY_VERSION, VERSION );
+    }
+
+    /**
+     * @param name  the value name
+     * @param value the value (null values are allowed)
+     * @return the fingerprint
+     */
+    public ReportFingerprint addValue(String name, Object value) {
+        this.update( name + "=" + value + "\n" );
+        return this;
+    }
+
+    /**
+     * Adds the metadata of the files of a directory (sub directories included).
+     *
+     * @param name          the directory name (in the fingerprint)
+     * @param directory     the directory (may not exist)
+     * @param fileSuffix    the suffix of the files to consider, null for all the files
+     * @return the fingerprint
+     * @throws IOException  in case of errors reading the directory
+     */
+    public ReportFingerprint addDirectory(String name, File directory, String fileSuffix) throws IOException {
+        this.update( "[" + name + "]\n" );
+        if ( directory != null && directory.isDirectory() ) {
+            Path root = directory.toPath();
+            SortedMap<String, String> files = new TreeMap<>();
+            Files.walkFileTree( root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if ( fileSuffix == null || file.getFileName().toString().endsWith( fileSuffix ) ) {
+                        files.put( root.relativize( file ).toString(), attrs.size() + ";" + attrs.lastModifiedTime().toMillis() );
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            } );
+            for ( Map.Entry<String, String> entry : files.entrySet() ) {
+                this.update( entry.getKey() + "=" + entry.getValue() + "\n" );
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the metadata of a file (absolute path, size and last modified time), or of the files of a directory.
+     *
+     * @param name      the file name (in the fingerprint)
+     * @param file      the file or directory (may not exist)
+     * @return the fingerprint
+     * @throws IOException  in case of errors reading the directory
+     */
+    public ReportFingerprint addFile(String name, File file) throws IOException {
+        if ( file != null && file.isDirectory() ) {
+            return this.addDirectory( name + ":" + file.getAbsolutePath(), file, null );
+        }
+        this.update( "[" + name + "]\n" );
+        if ( file != null && file.isFile() ) {
+            this.update( file.getAbsolutePath() + "=" + file.length() + ";" + file.lastModified() + "\n" );
+        }
+        return this;
+    }
+
+    /**
+     * Adds the metadata of the classpath elements (jar files and directories), so that a jar rebuilt
+     * with the same path (for instance a SNAPSHOT dependency) changes the fingerprint.
+     *
+     * @param name      the classpath name (in the fingerprint)
+     * @param elements  the classpath elements
+     * @return the fingerprint
+     * @throws IOException  in case of errors reading the directories
+     */
+    public ReportFingerprint addClasspath(String name, List<String> elements) throws IOException {
+        for ( String element : elements ) {
+            this.addFile( name, new File( element ) );
+        }
+        return this;
+    }
+
+    /**
+     * Adds the metadata of the jar file (or classes directory) containing a class, for instance the plugin itself :
+     * the implementation version is not enough, as it is missing when running from classes and the same for SNAPSHOT rebuilds.
+     *
+     * @param name      the code source name (in the fingerprint)
+     * @param type      the class
+     * @return the fingerprint
+     * @throws IOException  in case of errors reading the directory
+     */
+    public ReportFingerprint addCodeSource(String name, Class<?> type) throws IOException {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        URL location = codeSource == null ? null : codeSource.getLocation();
+        if ( location == null ) {
+            return this.addValue( name, null );
+        }
+        File file;
+        try {
+            file = new File( location.toURI() );
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // not a file location, only the url is hashed
+            return this.addValue( name, location );
+        }
+        return this.addFile( name, file );
+    }
+
+    private void update(String text) {
+        this.digest.update( text.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    /**
+     * @return the fingerprint as hex string (the fingerprint can not be updated anymore)
+     */
+    public String getHash() {
+        return FingerprintUtils.toHex( this.digest.digest() );
+    }
+
+    /**
+     * @param outputFile    the report file
+     * @return the fingerprint file of the report
+     */
+    public static File getFingerprintFile(File outputFile) {
+        return new File( outputFile.getPath() + FILE_SUFFIX );
+    }
+
+    /**
+     * @param fingerprintFile   the fingerprint file
+     * @param hash              the current fingerprint
+     * @param outputFiles       the report files
+     * @return the tags found in the last run, or null if the fingerprint file is missing, the fingerprint changed
+     *          or a report file changed since it was generated
+     */
+    public static Set<String> readFoundTags(File fingerprintFile, String hash, List<File> outputFiles) {
+        if ( !fingerprintFile.isFile() ) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader( new FileInputStream( fingerprintFile ), StandardCharsets.UTF_8 )) {
+            properties.load( reader );
+        } catch (IOException e) {
+            log.warn("Error reading fingerprint file, ignoring it: {}", e.getMessage());
+            return null;
+        }
+        if ( !hash.equals( properties.getProperty( KEY_FINGERPRINT ) ) ) {
+            return null;
+        }
+        for ( int k = 0; k < outputFiles.size(); k++ ) {
+            if ( !toOutputMetadata( outputFiles.get( k ) ).equals( properties.getProperty( KEY_OUTPUT_PREFIX + k ) ) ) {
+                log.debug("Report changed since the last generation: {}", outputFiles.get( k ).getAbsolutePath());
+                return null;
+            }
+        }
+        String foundTags = properties.getProperty( KEY_FOUND_TAGS, "" );
+        return foundTags.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>( Arrays.asList( foundTags.split( TAG_SEPARATOR ) ) );
+    }
+
+    /**
+     * @param fingerprintFile   the fingerprint file
+     * @param hash              the fingerprint
+     * @param foundTags         the tags found in the executed tests
+     * @param outputFiles       the generated report files
+     * @throws IOException      in case of errors writing the file
+     */
+    public static void write(File fingerprintFile, String hash, Collection<String> foundTags, List<File> outputFiles) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty( KEY_VERSION, String.valueOf( VERSION ) );
+        properties.setProperty( KEY_FINGERPRINT, hash );
+        properties.setProperty( KEY_FOUND_TAGS, String.join( TAG_SEPARATOR, foundTags ) );
+        for ( int k = 0; k < outputFiles.size(); k++ ) {
+            properties.setProperty( KEY_OUTPUT_PREFIX + k, toOutputMetadata( outputFiles.get( k ) ) );
+        }
+        try (Writer writer = new OutputStreamWriter( new FileOutputStream( fingerprintFile ), StandardCharsets.UTF_8 )) {
+            properties.store( writer, "junit5-tag-check report fingerprint" );
+        }
+    }
+
+    private static String toOutputMetadata(File outputFile) {
+        // a missing report never matches the stored metadata
+        return outputFile.isFile() ? outputFile.getAbsolutePath() + ";" + outputFile.length() + ";" + outputFile.lastModified() : "";
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.model.BinaryReport;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Merges partial reports (for instance from sharded CI jobs) with a streaming k-way merge.
+ *
+ * Each partial report (json or binary) is read by a ReportCursor, the cursors are kept in a priority queue ordered by
+ * class name, method name and report position : only the current test of each report is in memory.
+ *
+ * Precondition : the tests of each partial report are sorted by class and method name (see ExecutedTest.NAME_ORDER),
+ * as written by JsonReportWriter and BinaryReportWriter. The precondition is checked while merging :
+ * a partial report not sorted (for instance written by a previous version) is still fully merged, keeping
+ * the relative order of its tests, but the merged stream is not sorted and a warning is logged.
+ */
+@Slf4j
+public class ReportMergeFacade {
+
+    private ReportMergeFacade() {}
+
+    /**
+     * Receives the merged tests, in merge order
+     */
+    @FunctionalInterface
+    public interface MergeHandler {
+
+        void handle(ExecutedTest test, Set<String> tags) throws IOException;
+
+    }
+
+    private static final class Head {
+
+        private final ReportCursor cursor;
+
+        private final File reportFile;
+
+        private final int position;
+
+        private boolean sorted = true;
+
+        private Head(ReportCursor cursor, File reportFile, int position) {
+            this.cursor = cursor;
+            this.reportFile = reportFile;
+            this.position = position;
+        }
+
+        /*
+         * moves to the next test, checking the report is sorted
+         */
+        private boolean next() throws IOException {
+            ExecutedTest previous = this.cursor.getTest();
+            if ( !this.cursor.next() ) {
+                return false;
+            }
+            if ( this.sorted && ExecutedTest.NAME_ORDER.compare( previous, this.cursor.getTest() ) > 0 ) {
+                this.sorted = false;
+                log.warn("Partial report not sorted by class and method, the merged tests will not be sorted : {} ({} #{})",
+                        this.reportFile.getName(), this.cursor.getTest().getClassName(), this.cursor.getTest().getMethodName());
+            }
+            return true;
+        }
+
+    }
+
+    private static final Comparator<Head> HEAD_ORDER = Comparator
+            .comparing( (Head h) -> h.cursor.getTest(), ExecutedTest.NAME_ORDER )
+            .thenComparingInt( h -> h.position );
+
+    /**
+     * Merges the partial reports, each test is passed to the handler as soon as it is selected.
+     *
+     * @param partialReports    the partial reports (json or binary)
+     * @param includeSkipped    true if skipped tests should be included
+     * @param handler           the handler of the merged tests
+     * @return the number of merged tests
+     * @throws IOException      in case of errors reading the partial reports, or from the handler
+     */
+    public static int merge(List<File> partialReports, boolean includeSkipped, MergeHandler handler) throws IOException {
+        NameInterner classNames = new NameInterner();
+        List<ReportCursor> cursors = new ArrayList<>( partialReports.size() );
+        try {
+            PriorityQueue<Head> heads = new PriorityQueue<>( Math.max( 1, partialReports.size() ), HEAD_ORDER );
+            for ( File partialReport : partialReports ) {
+                log.debug("Merging partial report: {}", partialReport.getName());
+                ReportCursor cursor = openCursor( partialReport, classNames );
+                cursors.add( cursor );
+                if ( cursor.next() ) {
+                    heads.add( new Head( cursor, partialReport, cursors.size() - 1 ) );
+                }
+            }
+            int count = 0;
+            while ( !heads.isEmpty() ) {
+                Head head = heads.poll();
+                ExecutedTest test = head.cursor.getTest();
+                if ( includeSkipped || !test.isSkipped() ) {
+                    handler.handle( test, head.cursor.getTags() );
+                    count++;
+                }
+                if ( head.next() ) {
+                    heads.add( head );
+                }
+            }
+            return count;
+        } finally {
+            for ( ReportCursor cursor : cursors ) {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * @param reportFile    the report (json or binary)
+     * @return a cursor over the tests of the report
+     * @throws IOException  in case of errors opening the report
+     */
+    public static ReportCursor openCursor(File reportFile) throws IOException {
+        return openCursor( reportFile, new NameInterner() );
+    }
+
+    private static ReportCursor openCursor(File reportFile, NameInterner classNames) throws IOException {
+        if ( BinaryReport.isBinaryReport( reportFile ) ) {
+            return new BinaryReportCursor( reportFile );
+        }
+        return new JsonReportCursor( reportFile, classNames );
+    }
+
+    /**
+     * Merges the partial reports in memory.
+     *
+     * @param partialReports    the partial reports (json or binary)
+     * @param includeSkipped    true if skipped tests should be included
+     * @return the tags of each executed test, in merge order
+     * @throws IOException      in case of errors reading the partial reports
+     */
+    public static Map<ExecutedTest, Set<String>> merge(List<File> partialReports, boolean includeSkipped) throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        merge( partialReports, includeSkipped, testTagMap::put );
+        return testTagMap;
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.report.ReportRenderer;
+import org.fugerit.java.junit5.tag.check.report.TextReportRenderer;
+
+import java.util.*;
+
+@Slf4j
+public class ReportRendererFacade {
+
+    private ReportRendererFacade() {}
+
+    /*
+     * Renderers are discovered once for each plugin class loader.
+     * When more renderers handle the same format, the first one found is used.
+     */
+    private static final class RenderersHolder {
+        private static final Map<String, ReportRenderer> RENDERERS = loadRenderers();
+        private RenderersHolder() {}
+    }
+
+    private static Map<String, ReportRenderer> loadRenderers() {
+        Map<String, ReportRenderer> renderers = new LinkedHashMap<>();
+        for ( ReportRenderer renderer : ServiceLoader.load( ReportRenderer.class, ReportRendererFacade.class.getClassLoader() ) ) {
+            for ( String format : renderer.getFormats() ) {
+                ReportRenderer current = renderers.putIfAbsent( format.toLowerCase(), renderer );
+                if ( current != null ) {
+                    log.warn("Format {} already handled by {}, skipping {}", format, current.getClass().getName(), renderer.getClass().getName());
+                }
+            }
+        }
+        log.debug("Report renderers : {}", renderers.keySet());
+        return Collections.unmodifiableMap( renderers );
+    }
+
+    /**
+     * @return the available report formats
+     */
+    public static Set<String> getFormats() {
+        return RenderersHolder.RENDERERS.keySet();
+    }
+
+    /**
+     * @param format    the report format
+     * @return the renderer for the format, the text renderer if no renderer handles the format
+     */
+    public static ReportRenderer getRenderer(String format) {
+        ReportRenderer renderer = RenderersHolder.RENDERERS.get( format.toLowerCase() );
+        if ( renderer == null ) {
+            log.debug("No renderer for format {}, using text", format);
+            renderer = RenderersHolder.RENDERERS.get( TextReportRenderer.FORMAT_TEXT );
+        }
+        return renderer == null ? new TextReportRenderer() : renderer;
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streaming Surefire report parser based on StAX.
+ *
+ * Only the 'testcase' attributes and the presence of the 'skipped', 'failure' and 'error' elements are read,
+ * any other content (for instance 'system-out' and 'system-err' blocks) is skipped without being buffered,
+ * so memory usage depends on the number of test cases and not on the size of the report.
+ */
+public class StaxSurefireReportParser implements SurefireReportParser {
+
+    private static final String ELEMENT_TESTCASE = "testcase";
+
+    private final XMLInputFactory factory;
+
+    private final NameInterner classNames = new NameInterner();
+
+    public StaxSurefireReportParser() {
+        this.factory = XMLInputFactory.newInstance();
+        this.factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        this.factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        this.factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+    }
+
+    @Override
+    public void parse(File reportFile, Consumer<ExecutedTest> consumer) throws Exception {
+        try (InputStream is = new FileInputStream(reportFile)) {
+            XMLStreamReader reader = this.factory.createXMLStreamReader(is);
+            try {
+                String className = null;
+                boolean root = true;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.DTD) {
+                        throw new XMLStreamException("DOCTYPE is not allowed in Surefire reports");
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (root) {
+                            className = reader.getAttributeValue(null, "name");
+                            root = false;
+                        } else if (ELEMENT_TESTCASE.equals(reader.getLocalName())) {
+                            consumer.accept(readTestCase(reader, className));
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Reads only the test counters of the root 'testsuite' element.
+     *
+     * @param reportFile        the report file
+     * @param includeSkipped    true if skipped tests should be counted
+     * @return the number of tests, or -1 if the 'tests' attribute is missing
+     * @throws Exception        in case of errors reading the report
+     */
+    public int countTests(File reportFile, boolean includeSkipped) throws Exception {
+        try (InputStream is = new FileInputStream(reportFile)) {
+            XMLStreamReader reader = this.factory.createXMLStreamReader(is);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.DTD) {
+                        throw new XMLStreamException("DOCTYPE is not allowed in Surefire reports");
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
+                        String tests = reader.getAttributeValue(null, "tests");
+                        String skipped = reader.getAttributeValue(null, "skipped");
+                        if (tests == null) {
+                            return -1;
+                        }
+                        return includeSkipped || skipped == null ? Integer.parseInt(tests) : Integer.parseInt(tests) - Integer.parseInt(skipped);
+                    }
+                }
+                return -1;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private ExecutedTest readTestCase(XMLStreamReader reader, String className) throws XMLStreamException {
+        String methodName = reader.getAttributeValue(null, "name");
+        String testClassName = reader.getAttributeValue(null, "classname");
+        String time = reader.getAttributeValue(null, "time");
+        boolean skipped = false;
+        boolean failed = false;
+        boolean error = false;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("skipped".equals(name)) {
+                    skipped = true;
+                } else if ("failure".equals(name)) {
+                    failed = true;
+                } else if ("error".equals(name)) {
+                    error = true;
+                }
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        return ExecutedTest.of(
+                this.classNames.intern(testClassName == null ? className : testClassName),
+                methodName,
+                skipped,
+                failed,
+                error,
+                time
+        );
+    }
+
+    /*
+     * Moves the reader to the end of the current element, text content is never requested
+     * so that it is not materialized.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent cache of parsed Surefire reports.
+ *
+ * Each report file is fingerprinted by path, size, last modified time and content hash (SHA-256) :
+ * <ul>
+ *     <li>same size and last modified time : the cached tests are used, the file is not read at all</li>
+ *     <li>same size but different last modified time : the content hash is checked (the file is read but not parsed)</li>
+ *     <li>otherwise the report is parsed again</li>
+ * </ul>
+ *
+ * Only the entries for the report files found in the current run are saved.
+ *
+ * The cache is thread-safe, and can be used when parsing reports in parallel.
+ */
+@Slf4j
+public class SurefireParseCache {
+
+    private static final int VERSION = 1;
+
+    private final File cacheFile;
+
+    private final Map<String, CacheEntry> previousEntries;
+
+    private final Map<String, CacheEntry> currentEntries;
+
+    private final AtomicInteger hits;
+
+    private final AtomicInteger misses;
+
+    private SurefireParseCache(File cacheFile, Map<String, CacheEntry> previousEntries) {
+        this.cacheFile = cacheFile;
+        this.previousEntries = previousEntries;
+        this.currentEntries = new ConcurrentHashMap<>();
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+    }
+
+    public static SurefireParseCache load(File cacheFile) {
+        Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+        if (cacheFile.isFile()) {
+            try {
+                JsonNode root = new ObjectMapper().readTree(cacheFile);
+                if (root.path("version").asInt() == VERSION) {
+                    NameInterner classNames = new NameInterner();
+                    for (JsonNode entryNode : root.path("entries")) {
+                        CacheEntry entry = readEntry(entryNode, classNames);
+                        entries.put(entry.path, entry);
+                    }
+                } else {
+                    log.info("Surefire parse cache version mismatch, ignoring : {}", cacheFile.getAbsolutePath());
+                }
+            } catch (Exception e) {
+                log.warn("Could not read Surefire parse cache, ignoring : {} - {}", cacheFile.getAbsolutePath(), e.getMessage());
+                entries.clear();
+            }
+        }
+        return new SurefireParseCache(cacheFile, entries);
+    }
+
+    /**
+     * Returns the cached tests for the report file
+     *
+     * @param reportFile    the Surefire report file
+     * @return  the cached tests, or null if the report is not in cache or it changed
+     */
+    public List<ExecutedTest> get(File reportFile) {
+        String path = reportFile.getAbsolutePath();
+        CacheEntry entry = this.previousEntries.get(path);
+        if (entry != null && entry.size == reportFile.length()) {
+            long lastModified = reportFile.lastModified();
+            if (entry.lastModified == lastModified) {
+                return this.hit(path, entry);
+            }
+            try {
+                if (entry.hash.equals(FingerprintUtils.hash(reportFile))) {
+                    return this.hit(path, new CacheEntry(path, entry.size, lastModified, entry.hash, entry.tests));
+                }
+            } catch (IOException e) {
+                log.debug("Could not hash report file : {} - {}", path, e.getMessage());
+            }
+        }
+        this.misses.incrementAndGet();
+        return null;
+    }
+
+    private List<ExecutedTest> hit(String path, CacheEntry entry) {
+        this.hits.incrementAndGet();
+        this.currentEntries.put(path, entry);
+        return entry.tests;
+    }
+
+    /**
+     * Stores the parsed tests of a report file
+     *
+     * @param reportFile    the Surefire report file
+     * @param tests         all the tests parsed from the report (skipped included)
+     */
+    public void put(File reportFile, List<ExecutedTest> tests) {
+        String path = reportFile.getAbsolutePath();
+        try {
+            this.currentEntries.put(path, new CacheEntry(path, reportFile.length(), reportFile.lastModified(),
+                    FingerprintUtils.hash(reportFile), Collections.unmodifiableList(new ArrayList<>(tests))));
+        } catch (IOException e) {
+            log.debug("Could not hash report file, not cached : {} - {}", path, e.getMessage());
+        }
+    }
+
+    public void save() throws IOException {
+        log.info("Surefire parse cache : {} hits, {} misses", this.hits.get(), this.misses.get());
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", VERSION);
+        ArrayNode entriesNode = root.putArray("entries");
+        for (CacheEntry entry : this.currentEntries.values()) {
+            ObjectNode entryNode = entriesNode.addObject();
+            entryNode.put("path", entry.path);
+            entryNode.put("size", entry.size);
+            entryNode.put("lastModified", entry.lastModified);
+            entryNode.put("hash", entry.hash);
+            ArrayNode testsNode = entryNode.putArray("tests");
+            for (ExecutedTest test : entry.tests) {
+                ObjectNode testNode = testsNode.addObject();
+                testNode.put("class", test.getClassName());
+                testNode.put("method", test.getMethodName());
+                testNode.put("time", test.getTime().toString());
+                testNode.put("skipped", test.isSkipped());
+                testNode.put("failed", test.isFailed());
+                testNode.put("error", test.isError());
+            }
+        }
+        this.cacheFile.getParentFile().mkdirs();
+        mapper.writeValue(this.cacheFile, root);
+    }
+
+    public int getHits() {
+        return this.hits.get();
+    }
+
+    public int getMisses() {
+        return this.misses.get();
+    }
+
+    private static CacheEntry readEntry(JsonNode entryNode, NameInterner classNames) {
+        List<ExecutedTest> tests = new ArrayList<>();
+        for (JsonNode testNode : entryNode.path("tests")) {
+            tests.add(ExecutedTest.of(
+                    classNames.intern(testNode.path("class").asText()),
+                    testNode.path("method").asText(),
+                    testNode.path("skipped").asBoolean(),
+                    testNode.path("failed").asBoolean(),
+                    testNode.path("error").asBoolean(),
+                    testNode.path("time").asText()));
+        }
+        return new CacheEntry(entryNode.path("path").asText(),
+                entryNode.path("size").asLong(),
+                entryNode.path("lastModified").asLong(),
+                entryNode.path("hash").asText(),
+                Collections.unmodifiableList(tests));
+    }
+
+    private static final class CacheEntry {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+        private final List<ExecutedTest> tests;
+
+        private CacheEntry(String path, long size, long lastModified, String hash, List<ExecutedTest> tests) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.tests = tests;
+        }
+
+    }
+
+}
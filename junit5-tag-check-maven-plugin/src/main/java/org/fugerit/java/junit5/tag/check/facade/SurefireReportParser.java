@@ -0,0 +1,24 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * Parser for a single Surefire XML report file (TEST-*.xml).
+ *
+ * Implementations are not required to be thread-safe, a new instance should be used for each worker.
+ */
+public interface SurefireReportParser {
+
+    /**
+     * Parses a report file, each executed test is passed to the consumer as soon as it is read.
+     *
+     * @param reportFile    the Surefire XML report
+     * @param consumer      the consumer of the executed tests
+     * @throws Exception    in case of parsing errors
+     */
+    void parse(File reportFile, Consumer<ExecutedTest> consumer) throws Exception;
+
+}
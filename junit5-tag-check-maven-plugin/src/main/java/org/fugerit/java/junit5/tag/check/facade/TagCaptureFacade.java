@@ -0,0 +1,136 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+@Slf4j
+public class TagCaptureFacade {
+
+    /**
+     * Capture files are used when present, otherwise Surefire reports, default
+     */
+    public static final String SOURCE_AUTO = "auto";
+
+    /**
+     * Tests are read from Surefire reports, tags from test classes (see scanMode)
+     */
+    public static final String SOURCE_SUREFIRE = "surefire";
+
+    /**
+     * Tests and tags are read from the capture files written by TagCaptureListener
+     */
+    public static final String SOURCE_CAPTURE = "capture";
+
+    /**
+     * Capture files whose newest file is older than the newest Surefire report by more than this
+     * were not written by the last test run (for instance capture disabled or listener removed).
+     * The tolerance covers the reports written right after the capture files are closed.
+     */
+    public static final long STALE_TOLERANCE_MILLIS = 5000L;
+
+    private TagCaptureFacade() {}
+
+    /**
+     * @param captureDirectory  the capture directory
+     * @return the last modified time of the newest capture file, 0 if no capture file is found
+     */
+    public static long getLastModified(File captureDirectory) {
+        long lastModified = 0L;
+        File[] captureFiles = listCaptureFiles(captureDirectory);
+        if (captureFiles != null) {
+            for (File captureFile : captureFiles) {
+                lastModified = Math.max(lastModified, captureFile.lastModified());
+            }
+        }
+        return lastModified;
+    }
+
+    /**
+     * Reads the capture files written by TagCaptureListener.
+     *
+     * Files are read from the oldest to the newest, a test captured more than once
+     * (same unique id, for instance when tests are run again without clean) keeps the latest result.
+     *
+     * @param captureDirectory  the capture directory
+     * @param includeSkipped    true if skipped tests should be included
+     * @return the tags of each executed test, or null if no capture file is found
+     * @throws IOException      in case of errors reading the capture files
+     */
+    public static Map<ExecutedTest, Set<String>> readCapture(File captureDirectory, boolean includeSkipped) throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        return readCapture(captureDirectory, includeSkipped, testTagMap::put) ? testTagMap : null;
+    }
+
+    /**
+     * Reads the capture files written by TagCaptureListener, the tests are added to the table.
+     *
+     * @param captureDirectory  the capture directory
+     * @param includeSkipped    true if skipped tests should be included
+     * @param table             the table the tests are added to
+     * @return true if at least a capture file is found
+     * @throws IOException      in case of errors reading the capture files
+     */
+    public static boolean readCapture(File captureDirectory, boolean includeSkipped, TestTable table) throws IOException {
+        return readCapture(captureDirectory, includeSkipped, table::add);
+    }
+
+    private static boolean readCapture(File captureDirectory, boolean includeSkipped, BiConsumer<ExecutedTest, Set<String>> sink) throws IOException {
+        File[] captureFiles = listCaptureFiles(captureDirectory);
+        if (captureFiles == null || captureFiles.length == 0) {
+            return false;
+        }
+        Arrays.sort(captureFiles, Comparator.comparingLong(File::lastModified).thenComparing(File::getName));
+        Map<String, ExecutedTest> testsById = new LinkedHashMap<>();
+        Map<String, Set<String>> tagsById = new HashMap<>();
+        NameInterner classNames = new NameInterner();
+        for (File captureFile : captureFiles) {
+            log.debug("Reading capture file: {}", captureFile.getName());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(captureFile), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = TagCapture.readLine(line);
+                    if (fields != null) {
+                        String uniqueId = fields[TagCapture.FIELD_UNIQUE_ID];
+                        testsById.put(uniqueId, toExecutedTest(fields, classNames));
+                        tagsById.put(uniqueId, splitTags(fields[TagCapture.FIELD_TAGS]));
+                    }
+                }
+            }
+        }
+        for (Map.Entry<String, ExecutedTest> entry : testsById.entrySet()) {
+            ExecutedTest test = entry.getValue();
+            if (includeSkipped || !test.isSkipped()) {
+                sink.accept(test, tagsById.get(entry.getKey()));
+            }
+        }
+        return true;
+    }
+
+    private static File[] listCaptureFiles(File captureDirectory) {
+        return captureDirectory.listFiles((dir, name) -> name.endsWith(TagCapture.FILE_SUFFIX));
+    }
+
+    private static ExecutedTest toExecutedTest(String[] fields, NameInterner classNames) {
+        String status = fields[TagCapture.FIELD_STATUS];
+        // time shown with milliseconds precision, as in Surefire reports
+        return new ExecutedTest(classNames.intern(fields[TagCapture.FIELD_CLASS]), fields[TagCapture.FIELD_METHOD],
+                TagCapture.STATUS_SKIPPED.equals(status), TagCapture.STATUS_FAILED.equals(status),
+                TagCapture.STATUS_ERROR.equals(status), Long.parseLong(fields[TagCapture.FIELD_DURATION]), 3);
+    }
+
+    private static Set<String> splitTags(String tags) {
+        return tags.isEmpty() ? Collections.emptySet() : new LinkedHashSet<>(Arrays.asList(tags.split(TagCapture.TAG_SEPARATOR)));
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.fugerit.java.core.util.result.Result;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.TagCheckResult;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class TagCheckFacade {
+
+    private TagCheckFacade() {}
+
+    public static TagCheckResult checkHelper(Collection<String> requiredTags, Map<ExecutedTest, Set<String>> testTagMap) {
+        return checkHelper(requiredTags, getFoundTags(testTagMap));
+    }
+
+    /**
+     * @param testTagMap    the tags of each executed test
+     * @return the tags found in executed tests, in the order they are first found
+     */
+    public static Set<String> getFoundTags(Map<ExecutedTest, Set<String>> testTagMap) {
+        return testTagMap.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * @param requiredTags  the required tags
+     * @param testTable     the executed tests
+     * @return the check result
+     */
+    public static TagCheckResult checkHelper(Collection<String> requiredTags, TestTable testTable) {
+        return checkHelper(requiredTags, testTable.getFoundTags());
+    }
+
+    /**
+     * Checks required tags against the tags already collected (for instance from a ReportSummary).
+     *
+     * @param requiredTags  the required tags
+     * @param foundTags     the tags found in executed tests
+     * @return the check result
+     */
+    public static TagCheckResult checkHelper(Collection<String> requiredTags, Set<String> foundTags) {
+        TagCheckResult result = new TagCheckResult();
+        List<String> missingTags = new ArrayList<>();
+        for (String requiredTag : requiredTags) {
+            if (!foundTags.contains(requiredTag)) {
+                missingTags.add(requiredTag);
+            }
+        }
+        if (!missingTags.isEmpty()) {
+            result.setResultCode( Result.RESULT_CODE_KO );
+            result.setMessage( String.format( "Missing required tags in executed tests: %s", String.join(", ", missingTags) ) );
+        } else {
+            result.setResultCode( Result.RESULT_CODE_OK );
+            result.setMessage( String.format( "All required tags found in executed tests: %s", String.join(", ", requiredTags) ) );
+        }
+        return result;
+    }
+
+    public static void checkRequiredTags(Collection<String> requiredTags, boolean failOnMissingTag, Map<ExecutedTest, Set<String>> testTagMap) throws MojoExecutionException {
+        checkRequiredTags(requiredTags, failOnMissingTag, getFoundTags(testTagMap));
+    }
+
+    /**
+     * @param requiredTags      the required tags
+     * @param failOnMissingTag  true if a missing tag should fail the build
+     * @param testTable         the executed tests
+     * @throws MojoExecutionException if a required tag is missing and failOnMissingTag is true
+     */
+    public static void checkRequiredTags(Collection<String> requiredTags, boolean failOnMissingTag, TestTable testTable) throws MojoExecutionException {
+        checkRequiredTags(requiredTags, failOnMissingTag, testTable.getFoundTags());
+    }
+
+    /**
+     * Checks required tags against the tags already collected (for instance stored by a previous run).
+     *
+     * @param requiredTags      the required tags
+     * @param failOnMissingTag  true if a missing tag should fail the build
+     * @param foundTags         the tags found in executed tests
+     * @throws MojoExecutionException if a required tag is missing and failOnMissingTag is true
+     */
+    public static void checkRequiredTags(Collection<String> requiredTags, boolean failOnMissingTag, Set<String> foundTags) throws MojoExecutionException {
+        TagCheckResult result = checkHelper(requiredTags, foundTags);
+        if ( result.isResultOk() ) {
+            log.info( "Tag check [OK] {}", result.getMessage() );
+        } else {
+            if (failOnMissingTag) {
+                throw new MojoExecutionException( result.getMessage() );
+            } else {
+                LogUtils.logWarningInBox( Arrays.asList( String.format( "Tag check [KO] %s", result.getMessage() ) ) );
+            }
+        }
+    }
+
+}
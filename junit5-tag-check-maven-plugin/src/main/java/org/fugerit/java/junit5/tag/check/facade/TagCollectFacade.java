@@ -0,0 +1,225 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.fugerit.java.junit5.tag.check.model.CollectOptions;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ModuleSource;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the executed tests and their tags of a module (capture files, or Surefire reports and test classes),
+ * shared by the module and the aggregate goals.
+ *
+ * Tests are added to a TestTable as soon as their tags are known, the table is then used for checks and reports.
+ */
+@Slf4j
+public class TagCollectFacade {
+
+    private TagCollectFacade() {}
+
+    /**
+     * Collects the executed tests of a module.
+     *
+     * @param source        the module inputs
+     * @param options       the collect options
+     * @return the executed tests and their tags, or null if neither capture files nor Surefire reports directory are found
+     * @throws IOException  in case of errors reading the inputs
+     */
+    public static TestTable collect(ModuleSource source, CollectOptions options) throws IOException {
+        // Executed tests and tags captured at run time by TagCaptureListener
+        TestTable table = readCapture( source, options );
+        if ( table != null ) {
+            return table;
+        }
+
+        if ( !source.getSurefireReportsDirectory().exists() ) {
+            log.warn("Surefire reports directory not found: {}",
+                    source.getSurefireReportsDirectory().getAbsolutePath());
+            return null;
+        }
+
+        // Parse Surefire reports to find executed tests
+        SurefireParseCache cache = source.getParseCacheFile() != null ? SurefireParseCache.load( source.getParseCacheFile() ) : null;
+        List<ExecutedTest> executedTests = TagSurefireFacade.parseSurefireReports( source.getSurefireReportsDirectory(),
+                options.isIncludeSkipped(), options.getSurefireParser(), options.getParseThreads(), cache );
+        if ( cache != null ) {
+            saveCache( cache, source );
+        }
+
+        log.info("Found {} executed tests", executedTests.size());
+
+        // Extract tags from executed tests
+        return extractTags( source, options, executedTests );
+    }
+
+    private static void saveCache(SurefireParseCache cache, ModuleSource source) {
+        // the cache is only an optimization, failing to write it must not fail the build
+        try {
+            cache.save();
+        } catch (IOException e) {
+            log.warn("Could not write Surefire parse cache, ignoring : {} - {}", source.getParseCacheFile().getAbsolutePath(), e.getMessage());
+        }
+    }
+
+    /**
+     * Collects the executed tests of more modules concurrently.
+     *
+     * Each module is collected by a single worker, the resulting table keeps the order of the modules.
+     *
+     * @param sources       the modules inputs
+     * @param options       the collect options
+     * @param threads       the number of threads to use (values lower than 2 mean sequential collection)
+     * @return the executed tests and their tags of all the modules, or null if no module has capture files or Surefire reports
+     * @throws IOException  in case of errors reading the inputs
+     */
+    public static TestTable collectAll(List<ModuleSource> sources, CollectOptions options, int threads) throws IOException {
+        List<TestTable> results;
+        int actualThreads = Math.min( threads, sources.size() );
+        if ( actualThreads > 1 ) {
+            log.debug("Collecting {} modules with {} threads", sources.size(), actualThreads);
+            results = collectParallel( sources, options, actualThreads );
+        } else {
+            results = new ArrayList<>( sources.size() );
+            for ( ModuleSource source : sources ) {
+                results.add( collectModule( source, options ) );
+            }
+        }
+        TestTable table = null;
+        for ( TestTable current : results ) {
+            if ( current == null ) {
+                continue;
+            }
+            if ( table == null ) {
+                // the first module table is reused, the others are added to it
+                table = current;
+            } else {
+                table.addAll( current );
+            }
+        }
+        return table;
+    }
+
+    private static TestTable collectModule(ModuleSource source, CollectOptions options) throws IOException {
+        log.debug("Collecting module: {}", source.getName());
+        return collect( source, options );
+    }
+
+    private static List<TestTable> collectParallel(List<ModuleSource> sources, CollectOptions options, int threads) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try {
+            List<Future<TestTable>> futures = new ArrayList<>( sources.size() );
+            for ( ModuleSource source : sources ) {
+                futures.add( executor.submit( () -> collectModule( source, options ) ) );
+            }
+            // results are collected in submission order, to keep the modules order
+            List<TestTable> results = new ArrayList<>( futures.size() );
+            for ( Future<TestTable> future : futures ) {
+                results.add( future.get() );
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while collecting executed tests", e );
+        } catch (ExecutionException e) {
+            if ( e.getCause() instanceof IOException ) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException( "Error collecting executed tests", e.getCause() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TestTable readCapture(ModuleSource source, CollectOptions options) throws IOException {
+        if ( TagCaptureFacade.SOURCE_SUREFIRE.equalsIgnoreCase( options.getTagSource() ) || source.getCaptureDirectory() == null ) {
+            return null;
+        }
+        File captureDirectory = source.getCaptureDirectory();
+        File surefireReportsDirectory = source.getSurefireReportsDirectory();
+        long captureLastModified = TagCaptureFacade.getLastModified( captureDirectory );
+        if ( captureLastModified > 0L
+                && TagSurefireFacade.getLastModified( surefireReportsDirectory ) - captureLastModified > TagCaptureFacade.STALE_TOLERANCE_MILLIS ) {
+            log.warn("Capture files older than Surefire reports (capture disabled or listener removed ?), using Surefire reports: {}",
+                    captureDirectory.getAbsolutePath());
+            return null;
+        }
+        TestTable table = new TestTable();
+        if ( TagCaptureFacade.readCapture( captureDirectory, options.isIncludeSkipped(), table ) ) {
+            // safety net, for instance capture files deleted by another test JVM
+            int surefireTests = TagSurefireFacade.countSurefireTests( surefireReportsDirectory, options.isIncludeSkipped() );
+            if ( table.size() < surefireTests ) {
+                log.warn("Captured tests ({}) are fewer than the tests in Surefire reports ({}), using Surefire reports: {}",
+                        table.size(), surefireTests, captureDirectory.getAbsolutePath());
+                return null;
+            }
+            log.info("Found {} executed tests in capture directory: {}", table.size(), captureDirectory.getAbsolutePath());
+            return table;
+        } else if ( TagCaptureFacade.SOURCE_CAPTURE.equalsIgnoreCase( options.getTagSource() ) ) {
+            log.warn("No capture file found, falling back to Surefire reports: {}", source.getCaptureDirectory().getAbsolutePath());
+        }
+        return null;
+    }
+
+    private static TestTable extractTags(ModuleSource source, CollectOptions options, List<ExecutedTest> executedTests) throws IOException {
+        TestTable table = new TestTable();
+        if ( TagScanFacade.SCAN_BYTECODE.equalsIgnoreCase( options.getScanMode() ) ) {
+            // class files are read from the test classpath, classes are loaded only if their class file is unreadable
+            try (URLClassLoader classLoader = createTestClassLoader( source )) {
+                TagScanFacade.extractTagsFromClassFiles(executedTests, getTestClasspathFiles( source ), classLoader, table);
+                return table;
+            }
+        }
+        if ( !TagScanFacade.SCAN_REFLECTION.equalsIgnoreCase( options.getScanMode() ) && source.getTestOutputDirectory() != null ) {
+            // index generated at compile time by TagIndexProcessor
+            Map<String, ClassTagInfo> tagIndex = TagScanFacade.readTagIndex( source.getTestOutputDirectory() );
+            if ( tagIndex != null ) {
+                log.info("Using tag index, classes : {}", tagIndex.size());
+                TagScanFacade.extractTagsFromIndex(executedTests, tagIndex, getTestClasspathFiles( source ), table);
+                return table;
+            } else if ( TagScanFacade.SCAN_INDEX.equalsIgnoreCase( options.getScanMode() ) ) {
+                log.warn("Tag index not found, falling back to reflection");
+            }
+        }
+        // Build classpath for test classes
+        try (URLClassLoader classLoader = createTestClassLoader( source )) {
+            TagScanFacade.extractTagsFromExecutedTests(executedTests, classLoader, table);
+            return table;
+        }
+    }
+
+    private static List<File> getTestClasspathFiles(ModuleSource source) {
+        return source.getTestClasspathElements().stream()
+                .map(File::new)
+                .collect(Collectors.toList());
+    }
+
+    private static URLClassLoader createTestClassLoader(ModuleSource source) {
+        URL[] urls = source.getTestClasspathElements().stream()
+                .map(element -> {
+                    try {
+                        return new File(element).toURI().toURL();
+                    } catch (MalformedURLException e) {
+                        log.warn("Could not convert to URL: {}", element);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toArray(URL[]::new);
+
+        return new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
+    }
+
+}
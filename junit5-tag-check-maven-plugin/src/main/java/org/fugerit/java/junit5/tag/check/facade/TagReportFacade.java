@@ -0,0 +1,124 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportOutput;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class TagReportFacade {
+
+    public static void generateReport(String format, boolean includeSkipped, File outputFile, Map<ExecutedTest, Set<String>> testTagMap, Collection<String> requiredTags)
+            throws IOException {
+        ReportOptions options = new ReportOptions();
+        options.setIncludeSkipped(includeSkipped);
+        generateReport(format, outputFile, testTagMap, requiredTags, options);
+    }
+
+    public static void generateReport(String format, File outputFile, Map<ExecutedTest, Set<String>> testTagMap, Collection<String> requiredTags, ReportOptions options)
+            throws IOException {
+        generateReport(format, outputFile, new TestTable( testTagMap ), requiredTags, options);
+    }
+
+    public static void generateReport(String format, File outputFile, TestTable testTable, Collection<String> requiredTags, ReportOptions options)
+            throws IOException {
+        TagReportFacade facade = new TagReportFacade(format, options, outputFile);
+        facade.generateReport(new ReportHelper( testTable, requiredTags, options ));
+    }
+
+    /**
+     * Generates more reports from the same executed tests.
+     *
+     * Report counters and tag stats are computed once (a single ReportHelper is shared),
+     * when there is more than one output, reports are rendered concurrently.
+     *
+     * @param outputs       the reports to generate (format and output file)
+     * @param testTagMap    the tags of each executed test
+     * @param requiredTags  the required tags
+     * @param options       the report options
+     * @throws IOException  in case of errors generating any of the reports
+     */
+    public static void generateReports(List<ReportOutput> outputs, Map<ExecutedTest, Set<String>> testTagMap, Collection<String> requiredTags, ReportOptions options)
+            throws IOException {
+        generateReports( outputs, new TestTable( testTagMap ), requiredTags, options );
+    }
+
+    /**
+     * Generates more reports from the same executed tests (see generateReports(List, Map, Collection, ReportOptions)).
+     *
+     * @param outputs       the reports to generate (format and output file)
+     * @param testTable     the executed tests and their tags
+     * @param requiredTags  the required tags
+     * @param options       the report options
+     * @throws IOException  in case of errors generating any of the reports
+     */
+    public static void generateReports(List<ReportOutput> outputs, TestTable testTable, Collection<String> requiredTags, ReportOptions options)
+            throws IOException {
+        ReportHelper helper = new ReportHelper( testTable, requiredTags, options );
+        int threads = Math.min( outputs.size(), Runtime.getRuntime().availableProcessors() );
+        if ( threads > 1 ) {
+            log.debug("Rendering {} reports with {} threads", outputs.size(), threads);
+            renderParallel( outputs, helper, options, threads );
+        } else {
+            for ( ReportOutput output : outputs ) {
+                new TagReportFacade( output.getFormat(), options, output.getOutputFile() ).generateReport( helper );
+            }
+        }
+    }
+
+    private static void renderParallel(List<ReportOutput> outputs, ReportHelper helper, ReportOptions options, int threads)
+            throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try {
+            List<Future<Void>> futures = new ArrayList<>( outputs.size() );
+            for ( ReportOutput output : outputs ) {
+                TagReportFacade facade = new TagReportFacade( output.getFormat(), options, output.getOutputFile() );
+                futures.add( executor.submit( () -> {
+                    facade.generateReport( helper );
+                    return null;
+                } ) );
+            }
+            for ( Future<Void> future : futures ) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while generating reports", e );
+        } catch (ExecutionException e) {
+            if ( e.getCause() instanceof IOException ) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException( "Error generating reports", e.getCause() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private File outputFile;
+
+    private String format;
+
+    private ReportOptions options;
+
+    private TagReportFacade(String format, ReportOptions options, File outputFile) {
+        this.format = format;
+        this.options = options;
+        this.outputFile = outputFile;
+    }
+
+    private void generateReport(ReportHelper helper) throws IOException {
+        outputFile.getParentFile().mkdirs();
+        String currentFormat = format.toLowerCase();
+        ReportRendererFacade.getRenderer( currentFormat ).render( currentFormat, outputFile, helper, options );
+    }
+
+}
@@ -0,0 +1,254 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.fugerit.java.junit5.tag.check.core.TagIndex;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@Slf4j
+public class TagScanFacade {
+
+    /**
+     * Tags are read loading test classes, default
+     */
+    public static final String SCAN_REFLECTION = "reflection";
+
+    /**
+     * Tags are read from class files, without loading test classes
+     */
+    public static final String SCAN_BYTECODE = "bytecode";
+
+    /**
+     * Tags are read from the index generated at compile time by TagIndexProcessor
+     */
+    public static final String SCAN_INDEX = "index";
+
+    /**
+     * Tags are read from the index when present, otherwise loading test classes
+     */
+    public static final String SCAN_AUTO = "auto";
+
+    private TagScanFacade() {}
+
+    public static Map<ExecutedTest, Set<String>> extractTagsFromExecutedTests(
+            List<ExecutedTest> executedTests,
+            ClassLoader classLoader) {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        extractTags(executedTests, className -> loadClassIndex(className, classLoader), testTagMap::put);
+        return testTagMap;
+    }
+
+    /**
+     * Extracts tags loading test classes, the tests are added to the table in the order they were executed.
+     *
+     * @param executedTests     the executed tests
+     * @param classLoader       the test class loader
+     * @param table             the table the tests are added to
+     */
+    public static void extractTagsFromExecutedTests(
+            List<ExecutedTest> executedTests,
+            ClassLoader classLoader,
+            TestTable table) {
+        extractTags(executedTests, className -> loadClassIndex(className, classLoader), table::add);
+    }
+
+    /**
+     * Extracts tags reading class files (from directories or jar files), no class is loaded.
+     *
+     * @param executedTests     the executed tests
+     * @param classpathElements the directories and jar files containing the test classes
+     * @return the tags of each executed test
+     * @throws IOException      in case of errors closing the classpath elements
+     */
+    public static Map<ExecutedTest, Set<String>> extractTagsFromClassFiles(
+            List<ExecutedTest> executedTests,
+            List<File> classpathElements) throws IOException {
+        return extractTagsFromClassFiles(executedTests, classpathElements, null);
+    }
+
+    /**
+     * Extracts tags reading class files (from directories or jar files).
+     *
+     * Classes whose class file cannot be found or read are loaded with the fallback class loader, if provided.
+     *
+     * @param executedTests         the executed tests
+     * @param classpathElements     the directories and jar files containing the test classes
+     * @param fallbackClassLoader   the class loader used for unreadable class files (can be null)
+     * @return the tags of each executed test
+     * @throws IOException      in case of errors closing the classpath elements
+     */
+    public static Map<ExecutedTest, Set<String>> extractTagsFromClassFiles(
+            List<ExecutedTest> executedTests,
+            List<File> classpathElements,
+            ClassLoader fallbackClassLoader) throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        extractTagsFromClassFiles(executedTests, classpathElements, fallbackClassLoader, testTagMap::put);
+        return testTagMap;
+    }
+
+    /**
+     * Extracts tags reading class files, the tests are added to the table in the order they were executed.
+     *
+     * @param executedTests         the executed tests
+     * @param classpathElements     the directories and jar files containing the test classes
+     * @param fallbackClassLoader   the class loader used for unreadable class files (can be null)
+     * @param table                 the table the tests are added to
+     * @throws IOException      in case of errors closing the classpath elements
+     */
+    public static void extractTagsFromClassFiles(
+            List<ExecutedTest> executedTests,
+            List<File> classpathElements,
+            ClassLoader fallbackClassLoader,
+            TestTable table) throws IOException {
+        extractTagsFromClassFiles(executedTests, classpathElements, fallbackClassLoader, table::add);
+    }
+
+    private static void extractTagsFromClassFiles(
+            List<ExecutedTest> executedTests,
+            List<File> classpathElements,
+            ClassLoader fallbackClassLoader,
+            BiConsumer<ExecutedTest, Set<String>> sink) throws IOException {
+        try (ClassFileLocator locator = new ClassFileLocator(classpathElements)) {
+            extractTags(executedTests, className -> readClassIndex(className, locator, fallbackClassLoader), sink);
+        }
+    }
+
+    /**
+     * Extracts tags from the tag index generated at compile time, no class is loaded.
+     *
+     * Classes missing from the index (for instance parent classes from other artifacts)
+     * are read from the class files of the classpath elements.
+     *
+     * @param executedTests     the executed tests
+     * @param tagIndex          the tag index (class name to class tags)
+     * @param classpathElements the directories and jar files used for classes not in the index
+     * @return the tags of each executed test
+     * @throws IOException      in case of errors closing the classpath elements
+     */
+    public static Map<ExecutedTest, Set<String>> extractTagsFromIndex(
+            List<ExecutedTest> executedTests,
+            Map<String, ClassTagInfo> tagIndex,
+            List<File> classpathElements) throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        extractTagsFromIndex(executedTests, tagIndex, classpathElements, testTagMap::put);
+        return testTagMap;
+    }
+
+    /**
+     * Extracts tags from the tag index, the tests are added to the table in the order they were executed.
+     *
+     * @param executedTests     the executed tests
+     * @param tagIndex          the tag index (class name to class tags)
+     * @param classpathElements the directories and jar files used for classes not in the index
+     * @param table             the table the tests are added to
+     * @throws IOException      in case of errors closing the classpath elements
+     */
+    public static void extractTagsFromIndex(
+            List<ExecutedTest> executedTests,
+            Map<String, ClassTagInfo> tagIndex,
+            List<File> classpathElements,
+            TestTable table) throws IOException {
+        extractTagsFromIndex(executedTests, tagIndex, classpathElements, table::add);
+    }
+
+    private static void extractTagsFromIndex(
+            List<ExecutedTest> executedTests,
+            Map<String, ClassTagInfo> tagIndex,
+            List<File> classpathElements,
+            BiConsumer<ExecutedTest, Set<String>> sink) throws IOException {
+        try (ClassFileLocator locator = new ClassFileLocator(classpathElements)) {
+            Function<String, ClassTagInfo> lookup = className -> {
+                ClassTagInfo classInfo = tagIndex.get(className);
+                return classInfo == null ? locator.getClassTagInfo(className) : classInfo;
+            };
+            extractTags(executedTests, className -> {
+                ClassTagInfo classInfo = lookup.apply(className);
+                if (classInfo == null) {
+                    log.warn("Could not find test class in tag index: {}", className);
+                    return null;
+                }
+                return ClassTagIndex.fromClassInfo(classInfo, lookup);
+            }, sink);
+        }
+    }
+
+    /**
+     * Reads the tag index generated by TagIndexProcessor
+     *
+     * @param testOutputDirectory   the test classes directory
+     * @return the tag index, or null if not present
+     * @throws IOException      in case of errors reading the index
+     */
+    public static Map<String, ClassTagInfo> readTagIndex(File testOutputDirectory) throws IOException {
+        File indexFile = new File(testOutputDirectory, TagIndex.RESOURCE_PATH);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(new FileInputStream(indexFile), StandardCharsets.UTF_8)) {
+            return TagIndex.read(reader);
+        }
+    }
+
+    /*
+     * each test class is indexed only once (null if the class could not be found),
+     * each test is passed to the sink with its tags
+     */
+    private static void extractTags(
+            List<ExecutedTest> executedTests,
+            Function<String, ClassTagIndex> indexLoader,
+            BiConsumer<ExecutedTest, Set<String>> sink) {
+        Map<String, ClassTagIndex> classIndexes = new HashMap<>();
+        for (ExecutedTest test : executedTests) {
+            String className = test.getClassName();
+            ClassTagIndex classIndex;
+            if (classIndexes.containsKey(className)) {
+                classIndex = classIndexes.get(className);
+            } else {
+                classIndex = indexLoader.apply(className);
+                classIndexes.put(className, classIndex);
+            }
+            Set<String> tags = classIndex == null ? null : classIndex.getTags(test.getMethodName());
+            if (tags != null) {
+                sink.accept(test, tags);
+            } else {
+                if (classIndex != null) {
+                    log.warn("Could not find method: {} #{}", test.getClassName(), test.getMethodName());
+                }
+                sink.accept(test, Collections.emptySet());
+            }
+        }
+    }
+
+    private static ClassTagIndex loadClassIndex(String className, ClassLoader classLoader) {
+        try {
+            return ClassTagIndex.fromClass(classLoader.loadClass(className));
+        } catch (ClassNotFoundException e) {
+            log.warn("Could not load test class: {}", className);
+            return null;
+        }
+    }
+
+    private static ClassTagIndex readClassIndex(String className, ClassFileLocator locator, ClassLoader fallbackClassLoader) {
+        ClassTagInfo classInfo = locator.getClassTagInfo(className);
+        if (classInfo == null && fallbackClassLoader != null) {
+            log.debug("Could not read test class file, falling back to reflection: {}", className);
+            return loadClassIndex(className, fallbackClassLoader);
+        } else if (classInfo == null) {
+            log.warn("Could not find test class file: {}", className);
+            return null;
+        }
+        return ClassTagIndex.fromClassInfo(classInfo, locator::getClassTagInfo);
+    }
+
+}
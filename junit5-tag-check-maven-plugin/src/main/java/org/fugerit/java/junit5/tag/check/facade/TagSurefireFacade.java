@@ -0,0 +1,208 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class TagSurefireFacade {
+
+    /**
+     * Streaming parser (StAX), default
+     */
+    public static final String PARSER_STAX = "stax";
+
+    /**
+     * DOM parser (dom4j), the whole report is loaded in memory
+     */
+    public static final String PARSER_DOM = "dom";
+
+    private TagSurefireFacade() {}
+
+    public static List<ExecutedTest> parseSurefireReports( File surefireReportsDirectory, boolean includeSkipped ) {
+        return parseSurefireReports( surefireReportsDirectory, includeSkipped, PARSER_STAX );
+    }
+
+    public static List<ExecutedTest> parseSurefireReports( File surefireReportsDirectory, boolean includeSkipped, String parserType ) {
+        return parseSurefireReports( surefireReportsDirectory, includeSkipped, parserType, 1 );
+    }
+
+    /**
+     * Parses the Surefire reports.
+     *
+     * When parseThreads is greater than 1, report files are parsed concurrently, each worker using its own parser.
+     * The resulting list keeps the order of the report files, as in the sequential mode.
+     *
+     * @param surefireReportsDirectory  the directory containing TEST-*.xml reports
+     * @param includeSkipped            true if skipped tests should be included
+     * @param parserType                the parser type ('stax' or 'dom')
+     * @param parseThreads              the number of threads to use (values lower than 2 mean sequential parsing)
+     * @return the executed tests
+     */
+    public static List<ExecutedTest> parseSurefireReports( File surefireReportsDirectory, boolean includeSkipped, String parserType, int parseThreads ) {
+        return parseSurefireReports( surefireReportsDirectory, includeSkipped, parserType, parseThreads, null );
+    }
+
+    /**
+     * Parses the Surefire reports, using a parse cache.
+     *
+     * Only report files missing or changed in the cache are parsed.
+     *
+     * @param surefireReportsDirectory  the directory containing TEST-*.xml reports
+     * @param includeSkipped            true if skipped tests should be included
+     * @param parserType                the parser type ('stax' or 'dom')
+     * @param parseThreads              the number of threads to use (values lower than 2 mean sequential parsing)
+     * @param cache                     the parse cache (can be null)
+     * @return the executed tests
+     */
+    public static List<ExecutedTest> parseSurefireReports( File surefireReportsDirectory, boolean includeSkipped, String parserType, int parseThreads, SurefireParseCache cache ) {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+
+        // Find all XML report files
+        File[] reportFiles = listReportFiles( surefireReportsDirectory );
+
+        if (reportFiles == null || reportFiles.length == 0) {
+            log.warn("No Surefire XML reports found in: {}",
+                    surefireReportsDirectory.getAbsolutePath());
+            return executedTests;
+        }
+
+        int threads = Math.min( parseThreads, reportFiles.length );
+        if ( threads > 1 ) {
+            log.debug("Parsing {} reports with {} threads", reportFiles.length, threads);
+            for ( List<ExecutedTest> currentTests : parseParallel( reportFiles, parserType, threads, cache ) ) {
+                addTests( executedTests, currentTests, includeSkipped );
+            }
+        } else {
+            SurefireReportParser parser = newParser( parserType );
+            for (File reportFile : reportFiles) {
+                addTests( executedTests, parseReportFile( parser, reportFile, cache ), includeSkipped );
+            }
+        }
+
+        return executedTests;
+    }
+
+    /**
+     * Counts the tests of the Surefire reports, reading only the counters of each report (test cases are not parsed).
+     *
+     * @param surefireReportsDirectory  the directory containing TEST-*.xml reports
+     * @param includeSkipped            true if skipped tests should be counted
+     * @return the number of tests, or -1 if no report is found or a report has no counters
+     */
+    public static int countSurefireTests( File surefireReportsDirectory, boolean includeSkipped ) {
+        File[] reportFiles = listReportFiles( surefireReportsDirectory );
+        if ( reportFiles == null || reportFiles.length == 0 ) {
+            return -1;
+        }
+        StaxSurefireReportParser parser = new StaxSurefireReportParser();
+        int count = 0;
+        for ( File reportFile : reportFiles ) {
+            try {
+                int current = parser.countTests( reportFile, includeSkipped );
+                if ( current < 0 ) {
+                    return -1;
+                }
+                count += current;
+            } catch (Exception e) {
+                // as in parseSurefireReports, the tests of an unreadable report are not counted
+                log.warn("Error reading report file: {}", reportFile.getName(), e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param surefireReportsDirectory  the directory containing TEST-*.xml reports
+     * @return the last modified time of the newest report, 0 if no report is found
+     */
+    public static long getLastModified( File surefireReportsDirectory ) {
+        long lastModified = 0L;
+        File[] reportFiles = listReportFiles( surefireReportsDirectory );
+        if ( reportFiles != null ) {
+            for ( File reportFile : reportFiles ) {
+                lastModified = Math.max( lastModified, reportFile.lastModified() );
+            }
+        }
+        return lastModified;
+    }
+
+    private static File[] listReportFiles( File surefireReportsDirectory ) {
+        return surefireReportsDirectory.listFiles(
+                (dir, name) -> name.startsWith("TEST-") && name.endsWith(".xml"));
+    }
+
+    public static SurefireReportParser newParser( String parserType ) {
+        if ( PARSER_DOM.equalsIgnoreCase( parserType ) ) {
+            return new DomSurefireReportParser();
+        } else {
+            return new StaxSurefireReportParser();
+        }
+    }
+
+    private static List<List<ExecutedTest>> parseParallel( File[] reportFiles, String parserType, int threads, SurefireParseCache cache ) {
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try {
+            ThreadLocal<SurefireReportParser> parsers = ThreadLocal.withInitial( () -> newParser( parserType ) );
+            List<Future<List<ExecutedTest>>> futures = new ArrayList<>( reportFiles.length );
+            for ( File reportFile : reportFiles ) {
+                futures.add( executor.submit( () -> parseReportFile( parsers.get(), reportFile, cache ) ) );
+            }
+            // results are collected in submission order, to keep the report files order
+            List<List<ExecutedTest>> results = new ArrayList<>( futures.size() );
+            for ( Future<List<ExecutedTest>> future : futures ) {
+                results.add( future.get() );
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while parsing Surefire reports", e );
+        } catch (ExecutionException e) {
+            throw new IllegalStateException( "Error parsing Surefire reports", e.getCause() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Tests are returned only if the whole report file is parsed correctly,
+     * otherwise an empty list is returned.
+     */
+    private static List<ExecutedTest> parseReportFile( SurefireReportParser parser, File reportFile, SurefireParseCache cache ) {
+        if ( cache != null ) {
+            List<ExecutedTest> cachedTests = cache.get( reportFile );
+            if ( cachedTests != null ) {
+                log.debug("Cached report: {}", reportFile.getName());
+                return cachedTests;
+            }
+        }
+        log.debug("Parsing report: {}", reportFile.getName());
+        List<ExecutedTest> currentTests = new ArrayList<>();
+        try {
+            parser.parse( reportFile, currentTests::add );
+            if ( cache != null ) {
+                cache.put( reportFile, currentTests );
+            }
+            return currentTests;
+        } catch (Exception e) {
+            log.warn("Error parsing report file: {}", reportFile.getName(), e);
+            return new ArrayList<>();
+        }
+    }
+
+    private static void addTests( List<ExecutedTest> executedTests, List<ExecutedTest> currentTests, boolean includeSkipped ) {
+        for ( ExecutedTest test : currentTests ) {
+            if (!test.isSkipped() || includeSkipped) {
+                executedTests.add(test);
+            }
+        }
+    }
+
+}
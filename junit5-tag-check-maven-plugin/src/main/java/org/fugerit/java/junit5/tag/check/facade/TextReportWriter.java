@@ -0,0 +1,377 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.DurationSketch;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportSummary;
+import org.fugerit.java.junit5.tag.check.model.TagDictionary;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormatSymbols;
+import java.util.*;
+
+/**
+ * Text report writer.
+ *
+ * Lines are built in a reusable buffer, with fixed width columns, and written through
+ * a buffered UTF-8 channel writer (no String.format for each line).
+ *
+ * The layout is the same of the previous String.format based report, including the platform
+ * line separator for the formatted lines and the default locale decimal separator for times.
+ */
+public class TextReportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String SEPARATOR = repeat('=', 80);
+
+    private static final String LINE = repeat('-', 80);
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Writer writer;
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    private char[] chars = new char[256];
+
+    private final char zeroDigit;
+
+    private final char decimalSeparator;
+
+    private TextReportWriter(Writer writer, Locale locale) {
+        this.writer = writer;
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    public static void write(File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        try (FileChannel channel = FileChannel.open(outputFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE)) {
+            new TextReportWriter(writer, Locale.getDefault(Locale.Category.FORMAT)).writeReport(helper, options);
+        }
+    }
+
+    private void writeReport(ReportHelper helper, ReportOptions options) throws IOException {
+        ReportSummary summary = helper.getSummary();
+
+        this.writer.write(SEPARATOR + "\n");
+        this.writer.write("EXECUTED TEST TAG REPORT\n");
+        this.writer.write(SEPARATOR + "\n\n");
+
+        if (options.isSectionEnabled(ReportOptions.SECTION_SUMMARY)) {
+            this.writeSummary(summary, options.isIncludeSkipped());
+        }
+        if (options.isSectionEnabled(ReportOptions.SECTION_TAGS_SUMMARY)) {
+            this.writeTagsSummary(summary);
+        }
+        if (options.isSectionEnabled(ReportOptions.SECTION_SLOWEST_TESTS) && options.getSlowestTests() > 0) {
+            this.writeSlowestTests(helper, options.getSlowestTests());
+        }
+        if (options.isSectionEnabled(ReportOptions.SECTION_TESTS_BY_TAG)) {
+            this.writeTestsByTag(summary, helper.getListedTestsByTag());
+        }
+        if (options.isSectionEnabled(ReportOptions.SECTION_ALL_TESTS)) {
+            this.writeAllTests(helper.getTestTable());
+        }
+
+        int testsWithoutTags = summary.getWithoutTags();
+        if (testsWithoutTags > 0) {
+            // the literal '%n' is part of the previous layout
+            this.writer.write("%n" + SEPARATOR + "\n");
+            this.writer.write("⚠️  WARNING: " + testsWithoutTags +
+                    " executed tests without tags\n");
+            this.writer.write(SEPARATOR + "\n");
+        }
+    }
+
+    private void writeSummary(ReportSummary summary, boolean includeSkipped) throws IOException {
+        this.writer.write("EXECUTION SUMMARY:\n");
+        this.writer.write(LINE + "\n");
+        this.writeCount("  Total Tests:    ", summary.getTotal());
+        this.writeCount("  Passed:         ", summary.getPassed());
+        this.writeCount("  Failed:         ", summary.getFailed());
+        this.writeCount("  Errors:         ", summary.getErrors());
+        if (includeSkipped) {
+            this.writeCount("  Skipped:        ", summary.getSkipped());
+        }
+        this.writer.write("\n");
+    }
+
+    private void writeTagsSummary(ReportSummary summary) throws IOException {
+        this.writer.write("SUMMARY BY TAG:\n");
+        this.writer.write(LINE + "\n");
+        this.line.setLength(0);
+        this.padRight("Tag", 20).append(" | ");
+        this.padLeft("Total", 5).append(" | ");
+        this.padLeft("Pass", 5).append(" | ");
+        this.padLeft("Fail", 5).append(" | ");
+        this.padLeft("Error", 5).append(LINE_SEPARATOR);
+        this.flushLine();
+        this.writer.write(LINE + "\n");
+
+        for (Map.Entry<String, TestStats> entry : summary.getTagStats().entrySet()) {
+            TestStats stats = entry.getValue();
+            int passed = stats.getTotal() - stats.getFailed() - stats.getErrors() - stats.getSkipped();
+            this.line.setLength(0);
+            this.padRight(entry.getKey(), 20).append(" | ");
+            this.padLeft(stats.getTotal(), 5).append(" | ");
+            this.padLeft(passed, 5).append(" | ");
+            this.padLeft(stats.getFailed(), 5).append(" | ");
+            this.padLeft(stats.getErrors(), 5).append(LINE_SEPARATOR);
+            this.flushLine();
+        }
+
+        // Tests without tags
+        int testsWithoutTags = summary.getWithoutTags();
+        if (testsWithoutTags > 0) {
+            this.line.setLength(0);
+            this.padRight("<NO TAG>", 20).append(" | ");
+            this.padLeft(testsWithoutTags, 5).append(" | ");
+            this.padLeft("?", 5).append(" | ");
+            this.padLeft("?", 5).append(" | ");
+            this.padLeft("?", 5).append(LINE_SEPARATOR);
+            this.flushLine();
+        }
+
+        if (!summary.getTagStats().isEmpty()) {
+            this.writeTagsDuration(summary);
+        }
+    }
+
+    private void writeTagsDuration(ReportSummary summary) throws IOException {
+        this.writer.write("\nDURATION BY TAG (seconds):\n");
+        this.writer.write(LINE + "\n");
+        this.line.setLength(0);
+        this.padRight("Tag", 20);
+        for (String header : new String[] { "Total", "Mean", "P50", "P90", "P99", "Max" }) {
+            this.line.append(" | ");
+            this.padLeft(header, 8);
+        }
+        this.line.append(LINE_SEPARATOR);
+        this.flushLine();
+        this.writer.write(LINE + "\n");
+
+        for (Map.Entry<String, TestStats> entry : summary.getTagStats().entrySet()) {
+            DurationSketch durations = entry.getValue().getDurations();
+            this.line.setLength(0);
+            this.padRight(entry.getKey(), 20).append(" | ");
+            this.padLeftMillis(durations.getTotalMicros(), 8).append(" | ");
+            this.padLeftMillis(durations.getMeanMicros(), 8).append(" | ");
+            this.padLeftMillis(durations.getQuantileMicros(0.5d), 8).append(" | ");
+            this.padLeftMillis(durations.getQuantileMicros(0.9d), 8).append(" | ");
+            this.padLeftMillis(durations.getQuantileMicros(0.99d), 8).append(" | ");
+            this.padLeftMillis(durations.getMaxMicros(), 8).append(LINE_SEPARATOR);
+            this.flushLine();
+        }
+    }
+
+    private void writeSlowestTests(ReportHelper helper, int limit) throws IOException {
+        this.line.setLength(0);
+        this.line.append("\nSLOWEST TESTS (top ");
+        this.appendInt(limit).append("):\n");
+        this.flushLine();
+        this.writer.write(LINE + "\n");
+        this.writeSlowestTestLines(helper.getSlowestTests());
+
+        this.writer.write("\nSLOWEST TESTS BY TAG:\n");
+        this.writer.write(LINE + "\n");
+        for (Map.Entry<String, List<ExecutedTest>> entry : helper.getSlowestTestsByTag().entrySet()) {
+            this.line.setLength(0);
+            this.line.append("Tag: ").append(entry.getKey()).append(LINE_SEPARATOR);
+            this.flushLine();
+            this.writeSlowestTestLines(entry.getValue());
+        }
+    }
+
+    private void writeSlowestTestLines(List<ExecutedTest> tests) throws IOException {
+        for (ExecutedTest test : tests) {
+            this.line.setLength(0);
+            this.line.append("  ").append(getStatusIcon(test)).append(' ');
+            this.padLeftMillis(test.getTimeMicros(), 9).append("s  ")
+                    .append(test.getClassName()).append('#').append(test.getMethodName()).append(LINE_SEPARATOR);
+            this.flushLine();
+        }
+    }
+
+    private void writeTestsByTag(ReportSummary summary, Map<String, List<ExecutedTest>> listedTestsByTag) throws IOException {
+        this.writer.write("\n" + SEPARATOR + "\n");
+        this.writer.write("EXECUTED TESTS BY TAG:\n");
+        this.writer.write(SEPARATOR + "\n\n");
+
+        for (Map.Entry<String, TestStats> entry : summary.getTagStats().entrySet()) {
+            int total = entry.getValue().getTotal();
+            List<ExecutedTest> listed = listedTestsByTag.get(entry.getKey());
+            this.line.setLength(0);
+            this.line.append("Tag: ").append(entry.getKey()).append(" (");
+            this.appendInt(total).append(" tests)").append(LINE_SEPARATOR);
+            this.flushLine();
+            this.writer.write(LINE + "\n");
+            for (ExecutedTest test : listed) {
+                this.line.setLength(0);
+                this.line.append("  ").append(getStatusIcon(test)).append(' ')
+                        .append(test.getClassName()).append('#').append(test.getMethodName()).append(" (");
+                this.appendMillis(test.getTimeMicros()).append("s)").append(LINE_SEPARATOR);
+                this.flushLine();
+            }
+            if (listed.size() < total) {
+                this.line.setLength(0);
+                this.line.append("  ... ");
+                this.appendInt(total - listed.size()).append(" more tests (slowest ");
+                this.appendInt(listed.size()).append(" listed)").append(LINE_SEPARATOR);
+                this.flushLine();
+            }
+            this.writer.write("\n");
+        }
+    }
+
+    private void writeAllTests(TestTable table) throws IOException {
+        this.writer.write("\n" + SEPARATOR + "\n");
+        this.writer.write("ALL EXECUTED TESTS WITH TAGS:\n");
+        this.writer.write(SEPARATOR + "\n\n");
+
+        TagDictionary dictionary = table.getDictionary();
+        for (int row = 0; row < table.size(); row++) {
+            ExecutedTest test = table.getTest(row);
+            this.line.setLength(0);
+            this.line.append(getStatusIcon(test)).append(' ');
+            int start = this.line.length();
+            this.line.append(test.getClassName()).append('#').append(test.getMethodName());
+            this.pad(start, 50).append(" : ");
+            if (!table.hasTags(row)) {
+                this.line.append("<NO TAGS>");
+            } else {
+                this.line.append('[');
+                boolean first = true;
+                for (int id = table.nextTagId(row, 0); id >= 0; id = table.nextTagId(row, id + 1)) {
+                    if (!first) {
+                        this.line.append(", ");
+                    }
+                    this.line.append(dictionary.getTag(id));
+                    first = false;
+                }
+                this.line.append(']');
+            }
+            this.line.append(LINE_SEPARATOR);
+            this.flushLine();
+        }
+    }
+
+    private void writeCount(String label, int count) throws IOException {
+        this.line.setLength(0);
+        this.line.append(label);
+        this.appendInt(count).append(LINE_SEPARATOR);
+        this.flushLine();
+    }
+
+    private void flushLine() throws IOException {
+        int length = this.line.length();
+        if (this.chars.length < length) {
+            this.chars = new char[Math.max(length, this.chars.length * 2)];
+        }
+        this.line.getChars(0, length, this.chars, 0);
+        this.writer.write(this.chars, 0, length);
+    }
+
+    private StringBuilder padRight(String value, int width) {
+        int start = this.line.length();
+        this.line.append(value);
+        return this.pad(start, width);
+    }
+
+    private StringBuilder pad(int start, int width) {
+        for (int k = this.line.length() - start; k < width; k++) {
+            this.line.append(' ');
+        }
+        return this.line;
+    }
+
+    private StringBuilder padLeft(String value, int width) {
+        for (int k = value.length(); k < width; k++) {
+            this.line.append(' ');
+        }
+        return this.line.append(value);
+    }
+
+    private StringBuilder padLeft(int value, int width) {
+        int length = value < 0 ? 2 : 1;
+        for (int rest = Math.abs(value / 10); rest > 0; rest /= 10) {
+            length++;
+        }
+        for (int k = length; k < width; k++) {
+            this.line.append(' ');
+        }
+        return this.appendInt(value);
+    }
+
+    private StringBuilder padLeftMillis(long micros, int width) {
+        int start = this.line.length();
+        this.appendMillis(micros);
+        for (int k = this.line.length() - start; k < width; k++) {
+            this.line.insert(start, ' ');
+        }
+        return this.line;
+    }
+
+    private StringBuilder appendInt(long value) {
+        int start = this.line.length();
+        this.line.append(value);
+        this.localizeDigits(start);
+        return this.line;
+    }
+
+    /*
+     * same as '%.3f' : half up rounding to milliseconds
+     */
+    private StringBuilder appendMillis(long micros) {
+        long millis = (Math.abs(micros) + 500L) / 1000L;
+        if (micros < 0) {
+            this.line.append('-');
+        }
+        int start = this.line.length();
+        this.line.append(millis / 1000L).append('.');
+        long fraction = millis % 1000L;
+        if (fraction < 100L) this.line.append('0');
+        if (fraction < 10L) this.line.append('0');
+        this.line.append(fraction);
+        this.localizeDigits(start);
+        this.line.setCharAt(this.line.length() - 4, this.decimalSeparator);
+        return this.line;
+    }
+
+    private void localizeDigits(int start) {
+        if (this.zeroDigit != '0') {
+            for (int k = start; k < this.line.length(); k++) {
+                char c = this.line.charAt(k);
+                if (c >= '0' && c <= '9') {
+                    this.line.setCharAt(k, (char) (c - '0' + this.zeroDigit));
+                }
+            }
+        }
+    }
+
+    private static String getStatusIcon(ExecutedTest test) {
+        if (test.isFailed()) return "❌";
+        if (test.isError()) return "⚠️";
+        if (test.isSkipped()) return "⊘";
+        return "✅";
+    }
+
+    private static String repeat(char c, int count) {
+        char[] repeated = new char[count];
+        Arrays.fill(repeated, c);
+        return new String(repeated);
+    }
+
+}
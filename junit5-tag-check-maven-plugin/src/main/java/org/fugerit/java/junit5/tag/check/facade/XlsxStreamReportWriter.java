@@ -0,0 +1,247 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportSummary;
+import org.fugerit.java.junit5.tag.check.model.TagCheckResult;
+import org.fugerit.java.junit5.tag.check.model.TagDictionary;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * XLSX report writer for large suites.
+ *
+ * Same sheets of the 'xlsx' report (Summary, Tags Summary, Slowest Tests, All Executed Tests), but rows are written
+ * through a POI streaming workbook (SXSSF) : only a window of rows is kept in memory, the others are flushed
+ * to compressed temporary files, strings are written inline (no shared strings table).
+ */
+public class XlsxStreamReportWriter {
+
+    /**
+     * Number of rows kept in memory for each sheet
+     */
+    public static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final String SHEET_SUMMARY = "Summary";
+
+    private static final String SHEET_TAGS_SUMMARY = "Tags Summary";
+
+    private static final String SHEET_SLOWEST_TESTS = "Slowest Tests";
+
+    private static final String SHEET_SLOWEST_TESTS_BY_TAG = "Slowest Tests by Tag";
+
+    private static final String SHEET_ALL_TESTS = "All Executed Tests";
+
+    private XlsxStreamReportWriter() {}
+
+    public static void write(File outputFile, ReportHelper helper) throws IOException {
+        // closing the workbook deletes the temporary files
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook( ROW_ACCESS_WINDOW_SIZE );
+             OutputStream os = new BufferedOutputStream( new FileOutputStream( outputFile ) )) {
+            workbook.setCompressTempFiles( true );
+            Styles styles = new Styles( workbook );
+            boolean allTests = helper.isSectionEnabled( ReportOptions.SECTION_ALL_TESTS );
+            boolean tagsSummary = helper.isSectionEnabled( ReportOptions.SECTION_TAGS_SUMMARY );
+            boolean slowestTests = helper.isSectionEnabled( ReportOptions.SECTION_SLOWEST_TESTS ) && helper.getOptions().getSlowestTests() > 0;
+            // a workbook needs at least a sheet
+            if ( helper.isSectionEnabled( ReportOptions.SECTION_SUMMARY ) || ( !allTests && !tagsSummary && !slowestTests ) ) {
+                writeSummary( workbook.createSheet( SHEET_SUMMARY ), helper, styles );
+            }
+            if ( tagsSummary ) {
+                writeTagsSummary( workbook.createSheet( SHEET_TAGS_SUMMARY ), helper.getSummary(), styles );
+            }
+            if ( slowestTests ) {
+                writeSlowestTests( workbook.createSheet( SHEET_SLOWEST_TESTS ), workbook.createSheet( SHEET_SLOWEST_TESTS_BY_TAG ), helper, styles );
+            }
+            if ( allTests ) {
+                writeAllTests( workbook.createSheet( SHEET_ALL_TESTS ), helper, styles );
+            }
+            workbook.write( os );
+        }
+    }
+
+    private static void writeSummary(Sheet sheet, ReportHelper helper, Styles styles) {
+        ReportSummary summary = helper.getSummary();
+        sheet.setColumnWidth( 0, 30 * 256 );
+        sheet.setColumnWidth( 1, 60 * 256 );
+        writeHeader( sheet, styles, "Metric", "Count" );
+        writeCount( sheet.createRow( 1 ), "Total Tests", summary.getTotal(), null );
+        writeCount( sheet.createRow( 2 ), "Passed", summary.getPassed(), styles.pass );
+        writeCount( sheet.createRow( 3 ), "Failed", summary.getFailed(), styles.fail );
+        writeCount( sheet.createRow( 4 ), "Errors", summary.getErrors(), styles.error );
+        TagCheckResult tagCheckResult = helper.getTagCheckResult();
+        Row row = sheet.createRow( 5 );
+        row.createCell( 0 ).setCellValue( "General result" );
+        Cell cell = row.createCell( 1 );
+        cell.setCellValue( tagCheckResult.getMessage() );
+        cell.setCellStyle( tagCheckResult.isResultOk() ? styles.pass : styles.error );
+    }
+
+    private static void writeCount(Row row, String metric, int count, CellStyle style) {
+        row.createCell( 0 ).setCellValue( metric );
+        Cell cell = row.createCell( 1 );
+        cell.setCellValue( count );
+        if ( style != null ) {
+            cell.setCellStyle( style );
+        }
+    }
+
+    private static void writeTagsSummary(Sheet sheet, ReportSummary summary, Styles styles) {
+        sheet.setColumnWidth( 0, 30 * 256 );
+        sheet.setColumnWidth( 1, 15 * 256 );
+        for ( int column = 2; column < 8; column++ ) {
+            sheet.setColumnWidth( column, 12 * 256 );
+        }
+        writeHeader( sheet, styles, "Tag", "Tests", "Total", "Mean", "P50", "P90", "P99", "Max" );
+        int rowIndex = 1;
+        for ( Map.Entry<String, TestStats> entry : summary.getTagStats().entrySet() ) {
+            Row row = sheet.createRow( rowIndex++ );
+            TestStats stats = entry.getValue();
+            row.createCell( 0 ).setCellValue( entry.getKey() );
+            row.createCell( 1 ).setCellValue( stats.getTotal() );
+            writeTime( row, 2, stats.getTotalTime(), styles );
+            writeTime( row, 3, stats.getMeanTime(), styles );
+            writeTime( row, 4, stats.getP50Time(), styles );
+            writeTime( row, 5, stats.getP90Time(), styles );
+            writeTime( row, 6, stats.getP99Time(), styles );
+            writeTime( row, 7, stats.getMaxTime(), styles );
+        }
+    }
+
+    private static void writeTime(Row row, int column, BigDecimal seconds, Styles styles) {
+        Cell cell = row.createCell( column );
+        cell.setCellValue( seconds.doubleValue() );
+        cell.setCellStyle( styles.time );
+    }
+
+    private static void writeSlowestTests(Sheet sheet, Sheet byTagSheet, ReportHelper helper, Styles styles) {
+        sheet.setColumnWidth( 0, 90 * 256 );
+        sheet.setColumnWidth( 1, 12 * 256 );
+        writeHeader( sheet, styles, "Test", "Time" );
+        int rowIndex = 1;
+        for ( ExecutedTest test : helper.getSlowestTests() ) {
+            writeSlowestTest( sheet.createRow( rowIndex++ ), 0, test, styles );
+        }
+        byTagSheet.setColumnWidth( 0, 30 * 256 );
+        byTagSheet.setColumnWidth( 1, 90 * 256 );
+        byTagSheet.setColumnWidth( 2, 12 * 256 );
+        writeHeader( byTagSheet, styles, "Tag", "Test", "Time" );
+        rowIndex = 1;
+        for ( Map.Entry<String, List<ExecutedTest>> entry : helper.getSlowestTestsByTag().entrySet() ) {
+            for ( ExecutedTest test : entry.getValue() ) {
+                Row row = byTagSheet.createRow( rowIndex++ );
+                row.createCell( 0 ).setCellValue( entry.getKey() );
+                writeSlowestTest( row, 1, test, styles );
+            }
+        }
+    }
+
+    private static void writeSlowestTest(Row row, int column, ExecutedTest test, Styles styles) {
+        row.createCell( column ).setCellValue( test.getClassName() + "#" + test.getMethodName() );
+        Cell time = row.createCell( column + 1 );
+        time.setCellValue( test.getTimeSeconds() );
+        time.setCellStyle( styles.time );
+    }
+
+    private static void writeAllTests(Sheet sheet, ReportHelper helper, Styles styles) {
+        sheet.setColumnWidth( 0, 8 * 256 );
+        sheet.setColumnWidth( 1, 90 * 256 );
+        sheet.setColumnWidth( 2, 40 * 256 );
+        sheet.setColumnWidth( 3, 12 * 256 );
+        writeHeader( sheet, styles, "Status", "Test", "Tags", "Time" );
+        sheet.createFreezePane( 0, 1 );
+        StringBuilder text = new StringBuilder( 256 );
+        TestTable table = helper.getTestTable();
+        TagDictionary dictionary = table.getDictionary();
+        for ( int tableRow = 0; tableRow < table.size(); tableRow++ ) {
+            ExecutedTest test = table.getTest( tableRow );
+            Row row = sheet.createRow( tableRow + 1 );
+            Cell status = row.createCell( 0 );
+            status.setCellValue( getStatusIcon( test ) );
+            status.setCellStyle( getStatusStyle( test, styles ) );
+            text.setLength( 0 );
+            row.createCell( 1 ).setCellValue( text.append( test.getClassName() ).append( '#' ).append( test.getMethodName() ).toString() );
+            text.setLength( 0 );
+            for ( int id = table.nextTagId( tableRow, 0 ); id >= 0; id = table.nextTagId( tableRow, id + 1 ) ) {
+                if ( text.length() > 0 ) {
+                    text.append( ", " );
+                }
+                text.append( dictionary.getTag( id ) );
+            }
+            row.createCell( 2 ).setCellValue( text.toString() );
+            Cell time = row.createCell( 3 );
+            time.setCellValue( test.getTimeSeconds() );
+            time.setCellStyle( styles.time );
+        }
+    }
+
+    private static void writeHeader(Sheet sheet, Styles styles, String... labels) {
+        Row row = sheet.createRow( 0 );
+        for ( int k = 0; k < labels.length; k++ ) {
+            Cell cell = row.createCell( k );
+            cell.setCellValue( labels[k] );
+            cell.setCellStyle( styles.header );
+        }
+    }
+
+    private static String getStatusIcon(ExecutedTest test) {
+        if (test.isFailed()) return "❌";
+        if (test.isError()) return "⚠️";
+        if (test.isSkipped()) return "⊘";
+        return "✅";
+    }
+
+    private static CellStyle getStatusStyle(ExecutedTest test, Styles styles) {
+        if (test.isFailed()) return styles.fail;
+        if (test.isError()) return styles.error;
+        if (test.isSkipped()) return styles.skip;
+        return styles.pass;
+    }
+
+    /*
+     * cell styles are shared by all the cells (a workbook supports a limited number of styles)
+     */
+    private static final class Styles {
+
+        private final CellStyle header;
+        private final CellStyle pass;
+        private final CellStyle fail;
+        private final CellStyle error;
+        private final CellStyle skip;
+        private final CellStyle time;
+
+        private Styles(Workbook workbook) {
+            Font bold = workbook.createFont();
+            bold.setBold( true );
+            this.header = workbook.createCellStyle();
+            this.header.setFont( bold );
+            this.pass = newColorStyle( workbook, IndexedColors.GREEN );
+            this.fail = newColorStyle( workbook, IndexedColors.RED );
+            this.error = newColorStyle( workbook, IndexedColors.ORANGE );
+            this.skip = newColorStyle( workbook, IndexedColors.GREY_50_PERCENT );
+            this.time = workbook.createCellStyle();
+            this.time.setDataFormat( workbook.createDataFormat().getFormat( "0.000\"s\"" ) );
+        }
+
+        private static CellStyle newColorStyle(Workbook workbook, IndexedColors color) {
+            Font font = workbook.createFont();
+            font.setColor( color.getIndex() );
+            CellStyle style = workbook.createCellStyle();
+            style.setFont( font );
+            return style;
+        }
+
+    }
+
+}
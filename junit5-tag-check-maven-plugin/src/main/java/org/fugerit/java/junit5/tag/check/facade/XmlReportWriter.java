@@ -0,0 +1,160 @@
+package org.fugerit.java.junit5.tag.check.facade;
+
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.TagDictionary;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming XML report writer (StAX), each test is written as it is visited (no DOM is built).
+ *
+ * Same schema and layout of the previous DOM based report : 'executedTestTagReport' root,
+ * a 'test' element for each test (attributes in alphabetical order) with a 'tag' element for each tag,
+ * optionally indented by two spaces.
+ *
+ * When enabled, the slowest tests follow the executed tests (slowest first) :
+ * 'slowestTests' with a 'test' element for each test (class, method and time attributes),
+ * 'slowestTestsByTag' with a 'tag' element (name attribute) for each tag, containing its slowest tests.
+ */
+public class XmlReportWriter {
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private static final String INDENT = "  ";
+
+    private XmlReportWriter() {}
+
+    public static void write(File outputFile, Map<ExecutedTest, Set<String>> testTagMap, boolean indent) throws IOException {
+        write(outputFile, new TestTable(testTagMap), null, null, indent);
+    }
+
+    /**
+     * Writes all the executed tests and the slowest tests (if enabled) of a report.
+     *
+     * @param outputFile    the report file
+     * @param helper        the report data
+     * @param indent        true if the report should be indented
+     * @throws IOException  in case of errors writing the report
+     */
+    public static void write(File outputFile, ReportHelper helper, boolean indent) throws IOException {
+        if (helper.getOptions().getSlowestTests() > 0) {
+            write(outputFile, helper.getTestTable(), helper.getSlowestTests(), helper.getSlowestTestsByTag(), indent);
+        } else {
+            write(outputFile, helper.getTestTable(), null, null, indent);
+        }
+    }
+
+    private static void write(File outputFile, TestTable table, List<ExecutedTest> slowestTests,
+                              Map<String, List<ExecutedTest>> slowestTestsByTag, boolean indent) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile), StandardCharsets.UTF_8))) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(writer);
+            try {
+                writeReport(xml, table, slowestTests, slowestTestsByTag, indent);
+                xml.writeEndDocument();
+                xml.flush();
+            } finally {
+                xml.close();
+            }
+            if (indent) {
+                writer.write("\n");
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Error writing xml report : " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeReport(XMLStreamWriter xml, TestTable table, List<ExecutedTest> slowestTests,
+                                    Map<String, List<ExecutedTest>> slowestTestsByTag, boolean indent) throws XMLStreamException {
+        if (table.size() == 0) {
+            xml.writeEmptyElement("executedTestTagReport");
+            return;
+        }
+        xml.writeStartElement("executedTestTagReport");
+        TagDictionary dictionary = table.getDictionary();
+        for (int row = 0; row < table.size(); row++) {
+            ExecutedTest test = table.getTest(row);
+            boolean tagged = table.hasTags(row);
+            newLine(xml, indent, 1);
+            if (!tagged) {
+                xml.writeEmptyElement("test");
+            } else {
+                xml.writeStartElement("test");
+            }
+            xml.writeAttribute("class", test.getClassName());
+            xml.writeAttribute("error", String.valueOf(test.isError()));
+            xml.writeAttribute("failed", String.valueOf(test.isFailed()));
+            xml.writeAttribute("method", test.getMethodName());
+            xml.writeAttribute("skipped", String.valueOf(test.isSkipped()));
+            xml.writeAttribute("time", test.getTime().toString());
+            if (tagged) {
+                for (int id = table.nextTagId(row, 0); id >= 0; id = table.nextTagId(row, id + 1)) {
+                    newLine(xml, indent, 2);
+                    xml.writeStartElement("tag");
+                    xml.writeCharacters(dictionary.getTag(id));
+                    xml.writeEndElement();
+                }
+                newLine(xml, indent, 1);
+                xml.writeEndElement();
+            }
+        }
+        if (slowestTests != null) {
+            newLine(xml, indent, 1);
+            xml.writeStartElement("slowestTests");
+            writeSlowestTests(xml, slowestTests, indent, 2);
+            newLine(xml, indent, 1);
+            xml.writeEndElement();
+        }
+        if (slowestTestsByTag != null) {
+            newLine(xml, indent, 1);
+            xml.writeStartElement("slowestTestsByTag");
+            for (Map.Entry<String, List<ExecutedTest>> entry : slowestTestsByTag.entrySet()) {
+                newLine(xml, indent, 2);
+                xml.writeStartElement("tag");
+                xml.writeAttribute("name", entry.getKey());
+                writeSlowestTests(xml, entry.getValue(), indent, 3);
+                newLine(xml, indent, 2);
+                xml.writeEndElement();
+            }
+            newLine(xml, indent, 1);
+            xml.writeEndElement();
+        }
+        newLine(xml, indent, 0);
+        xml.writeEndElement();
+    }
+
+    private static void writeSlowestTests(XMLStreamWriter xml, List<ExecutedTest> tests, boolean indent, int level) throws XMLStreamException {
+        for (ExecutedTest test : tests) {
+            newLine(xml, indent, level);
+            xml.writeEmptyElement("test");
+            xml.writeAttribute("class", test.getClassName());
+            xml.writeAttribute("method", test.getMethodName());
+            xml.writeAttribute("time", test.getTime().toString());
+        }
+    }
+
+    private static void newLine(XMLStreamWriter xml, boolean indent, int level) throws XMLStreamException {
+        if (indent) {
+            StringBuilder whitespace = new StringBuilder("\n");
+            for (int k = 0; k < level; k++) {
+                whitespace.append(INDENT);
+            }
+            xml.writeCharacters(whitespace.toString());
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Reader of the binary report ('binary' format), the file is memory-mapped and tests are decoded on access.
+ *
+ * Layout (version 1, big endian, offsets are from the start of the file) :
+ * <pre>
+ * header (64 bytes)
+ *   int   magic ('JTCR')
+ *   short version
+ *   short reserved
+ *   int   test count, tag count, tag words (longs of each tag bitset), record size
+ *   int   passed, failed, errors, skipped, without tags
+ *   int   offsets of tag table, class table, method table, records, tag stats
+ * string table (tags, classes, methods)
+ *   int   count, int blob length, byte[] UTF-8 blob, int[count + 1] offsets of each string in the blob
+ * record (one for each test, fixed width)
+ *   int   class index, int method index, long duration (microseconds), byte status flags, byte time scale, 6 bytes padding
+ *   long[tag words] tag bitset (tag ids)
+ * tag stats (one for each tag, in tag id order)
+ *   int   total, failed, errors, skipped
+ * </pre>
+ *
+ * Tag stats carry the counters only : durations and percentiles of the returned {@link TestStats} are empty
+ * (the duration of each test is available in its record).
+ *
+ * The whole file is mapped in a single buffer, so the report size is limited to 2 GB (checked by BinaryReportWriter).
+ * Only absolute buffer reads are used, instances are thread-safe.
+ */
+public class BinaryReport {
+
+    public static final int MAGIC = 0x4A544352;
+
+    public static final short VERSION = 1;
+
+    public static final int HEADER_SIZE = 64;
+
+    public static final int RECORD_FIXED_SIZE = 24;
+
+    public static final int TAG_STATS_SIZE = 16;
+
+    public static final String FILE_SUFFIX = ".bin";
+
+    private final ByteBuffer buffer;
+
+    private final int size;
+
+    private final int tagWords;
+
+    private final int recordSize;
+
+    private final int recordsOffset;
+
+    private final int statsOffset;
+
+    private final List<String> tags;
+
+    private final StringTable classes;
+
+    private final StringTable methods;
+
+    private BinaryReport(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if ( buffer.limit() < HEADER_SIZE || buffer.getInt( 0 ) != MAGIC ) {
+            throw new IOException( "Not a binary report" );
+        }
+        short version = buffer.getShort( 4 );
+        if ( version != VERSION ) {
+            throw new IOException( "Unsupported binary report version : " + version );
+        }
+        this.size = buffer.getInt( 8 );
+        this.tagWords = buffer.getInt( 16 );
+        this.recordSize = buffer.getInt( 20 );
+        this.recordsOffset = buffer.getInt( 56 );
+        this.statsOffset = buffer.getInt( 60 );
+        StringTable tagTable = new StringTable( buffer, buffer.getInt( 44 ) );
+        List<String> tagNames = new ArrayList<>( tagTable.count );
+        for ( int id = 0; id < tagTable.count; id++ ) {
+            tagNames.add( tagTable.get( id ) );
+        }
+        this.tags = Collections.unmodifiableList( tagNames );
+        this.classes = new StringTable( buffer, buffer.getInt( 48 ) );
+        this.methods = new StringTable( buffer, buffer.getInt( 52 ) );
+    }
+
+    /**
+     * Opens a binary report, memory-mapping the file.
+     *
+     * @param reportFile    the binary report file
+     * @return the report
+     * @throws IOException  in case of errors reading the file, or if the file is not a binary report
+     */
+    public static BinaryReport open(File reportFile) throws IOException {
+        try (FileChannel channel = FileChannel.open( reportFile.toPath(), StandardOpenOption.READ )) {
+            // the mapping is still valid after the channel is closed
+            return new BinaryReport( channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() ) );
+        }
+    }
+
+    /**
+     * @param buffer        a buffer containing a binary report
+     * @return the report
+     * @throws IOException  if the buffer does not contain a binary report
+     */
+    public static BinaryReport wrap(ByteBuffer buffer) throws IOException {
+        return new BinaryReport( buffer.duplicate() );
+    }
+
+    /**
+     * @param file  the file to check
+     * @return true if the file starts with the binary report magic number
+     */
+    public static boolean isBinaryReport(File file) {
+        try (DataInputStream input = new DataInputStream( new FileInputStream( file ) )) {
+            return input.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of tests
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return all the tags, in id order (the order they were first found)
+     */
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    public int getTotal() { return this.size; }
+
+    public int getPassed() { return this.buffer.getInt( 24 ); }
+
+    public int getFailed() { return this.buffer.getInt( 28 ); }
+
+    public int getErrors() { return this.buffer.getInt( 32 ); }
+
+    public int getSkipped() { return this.buffer.getInt( 36 ); }
+
+    public int getWithoutTags() { return this.buffer.getInt( 40 ); }
+
+    private int record(int row) {
+        if ( row < 0 || row >= this.size ) {
+            throw new IndexOutOfBoundsException( "Row : " + row + ", size : " + this.size );
+        }
+        return this.recordsOffset + row * this.recordSize;
+    }
+
+    public String getClassName(int row) {
+        return this.classes.get( this.buffer.getInt( this.record( row ) ) );
+    }
+
+    public String getMethodName(int row) {
+        return this.methods.get( this.buffer.getInt( this.record( row ) + 4 ) );
+    }
+
+    public long getTimeMicros(int row) {
+        return this.buffer.getLong( this.record( row ) + 8 );
+    }
+
+    /**
+     * @param row   the test row
+     * @return status flags (ExecutedTest.FLAG_SKIPPED, FLAG_FAILED, FLAG_ERROR)
+     */
+    public byte getFlags(int row) {
+        return this.buffer.get( this.record( row ) + 16 );
+    }
+
+    public ExecutedTest getTest(int row) {
+        int offset = this.record( row );
+        byte flags = this.buffer.get( offset + 16 );
+        return new ExecutedTest( this.classes.get( this.buffer.getInt( offset ) ), this.methods.get( this.buffer.getInt( offset + 4 ) ),
+                ( flags & ExecutedTest.FLAG_SKIPPED ) != 0, ( flags & ExecutedTest.FLAG_FAILED ) != 0, ( flags & ExecutedTest.FLAG_ERROR ) != 0,
+                this.buffer.getLong( offset + 8 ), this.buffer.get( offset + 17 ) );
+    }
+
+    /**
+     * @param row   the test row
+     * @return the tag ids of the test
+     */
+    public BitSet getTagIds(int row) {
+        int offset = this.record( row ) + RECORD_FIXED_SIZE;
+        long[] words = new long[this.tagWords];
+        for ( int k = 0; k < words.length; k++ ) {
+            words[k] = this.buffer.getLong( offset + k * 8 );
+        }
+        return BitSet.valueOf( words );
+    }
+
+    public Set<String> getTags(int row) {
+        BitSet ids = this.getTagIds( row );
+        Set<String> testTags = new LinkedHashSet<>();
+        for ( int id = ids.nextSetBit( 0 ); id >= 0; id = ids.nextSetBit( id + 1 ) ) {
+            testTags.add( this.tags.get( id ) );
+        }
+        return testTags;
+    }
+
+    /**
+     * @param tag   the tag
+     * @return the counters of the tag (empty stats if the tag is not found), durations are not stored
+     */
+    public TestStats getTagStats(String tag) {
+        int id = this.tags.indexOf( tag );
+        return id < 0 ? new TestStats() : this.getTagStats( id );
+    }
+
+    private TestStats getTagStats(int id) {
+        int offset = this.statsOffset + id * TAG_STATS_SIZE;
+        return new TestStats( this.buffer.getInt( offset ), this.buffer.getInt( offset + 4 ),
+                this.buffer.getInt( offset + 8 ), this.buffer.getInt( offset + 12 ) );
+    }
+
+    /**
+     * @return the counters of each tag, in tag id order (durations are not stored)
+     */
+    public Map<String, TestStats> getTagStats() {
+        Map<String, TestStats> tagStats = new LinkedHashMap<>();
+        for ( int id = 0; id < this.tags.size(); id++ ) {
+            tagStats.put( this.tags.get( id ), this.getTagStats( id ) );
+        }
+        return tagStats;
+    }
+
+    /**
+     * Selects the slowest tests with a bounded heap, in a single pass on the records.
+     *
+     * @param limit the maximum number of tests to select
+     * @return the slowest tests (slowest first)
+     */
+    public List<ExecutedTest> getSlowestTests(int limit) {
+        SlowestTests slowestTests = new SlowestTests( limit );
+        for ( int row = 0; limit > 0 && row < this.size; row++ ) {
+            // names are decoded only for the tests entering the heap
+            if ( slowestTests.isCandidate( this.getTimeMicros( row ) ) ) {
+                slowestTests.add( this.getTest( row ) );
+            }
+        }
+        return slowestTests.getTests();
+    }
+
+    /**
+     * Selects the slowest tests of each tag with a bounded heap for each tag, in a single pass on the records.
+     *
+     * @param limit the maximum number of tests to select for each tag
+     * @return the slowest tests of each tag (slowest first), in tag id order
+     */
+    public Map<String, List<ExecutedTest>> getSlowestTestsByTag(int limit) {
+        SlowestTests[] byTagId = new SlowestTests[this.tags.size()];
+        for ( int id = 0; id < byTagId.length; id++ ) {
+            byTagId[id] = new SlowestTests( limit );
+        }
+        for ( int row = 0; limit > 0 && row < this.size; row++ ) {
+            BitSet ids = this.getTagIds( row );
+            if ( !ids.isEmpty() ) {
+                ExecutedTest test = this.getTest( row );
+                for ( int id = ids.nextSetBit( 0 ); id >= 0; id = ids.nextSetBit( id + 1 ) ) {
+                    byTagId[id].add( test );
+                }
+            }
+        }
+        Map<String, List<ExecutedTest>> slowestTestsByTag = new LinkedHashMap<>();
+        for ( int id = 0; id < byTagId.length; id++ ) {
+            slowestTestsByTag.put( this.tags.get( id ), byTagId[id].getTests() );
+        }
+        return slowestTestsByTag;
+    }
+
+    /**
+     * Decodes all the tests, for instance to render the report in another format.
+     *
+     * @return the tags of each executed test, in report order
+     */
+    public Map<ExecutedTest, Set<String>> toTestTagMap() {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        for ( int row = 0; row < this.size; row++ ) {
+            testTagMap.put( this.getTest( row ), this.getTags( row ) );
+        }
+        return testTagMap;
+    }
+
+    /*
+     * Strings are decoded on access (not cached, the heap does not grow with the report size).
+     */
+    private static final class StringTable {
+
+        private final ByteBuffer buffer;
+
+        private final int count;
+
+        private final int blobOffset;
+
+        private final int indexOffset;
+
+        private StringTable(ByteBuffer buffer, int offset) {
+            this.buffer = buffer;
+            this.count = buffer.getInt( offset );
+            this.blobOffset = offset + 8;
+            this.indexOffset = this.blobOffset + buffer.getInt( offset + 4 );
+        }
+
+        private String get(int index) {
+            int start = this.blobOffset + this.buffer.getInt( this.indexOffset + index * 4 );
+            int end = this.blobOffset + this.buffer.getInt( this.indexOffset + ( index + 1 ) * 4 );
+            byte[] bytes = new byte[end - start];
+            for ( int k = 0; k < bytes.length; k++ ) {
+                bytes[k] = this.buffer.get( start + k );
+            }
+            return new String( bytes, StandardCharsets.UTF_8 );
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+/**
+ * Options used to collect the executed tests and their tags.
+ */
+public class CollectOptions {
+
+    private boolean includeSkipped;
+
+    private String surefireParser;
+
+    private int parseThreads = 1;
+
+    private String scanMode;
+
+    private String tagSource;
+
+    public boolean isIncludeSkipped() {
+        return includeSkipped;
+    }
+
+    public void setIncludeSkipped(boolean includeSkipped) {
+        this.includeSkipped = includeSkipped;
+    }
+
+    /**
+     * @return the Surefire report parser ('stax' or 'dom'), null for the default
+     */
+    public String getSurefireParser() {
+        return surefireParser;
+    }
+
+    public void setSurefireParser(String surefireParser) {
+        this.surefireParser = surefireParser;
+    }
+
+    /**
+     * @return the number of threads used to parse the Surefire reports of a module, default 1
+     */
+    public int getParseThreads() {
+        return parseThreads;
+    }
+
+    public void setParseThreads(int parseThreads) {
+        this.parseThreads = parseThreads;
+    }
+
+    /**
+     * @return the scan mode ('auto', 'reflection', 'bytecode' or 'index'), null for 'auto'
+     */
+    public String getScanMode() {
+        return scanMode;
+    }
+
+    public void setScanMode(String scanMode) {
+        this.scanMode = scanMode;
+    }
+
+    /**
+     * @return the tag source ('auto', 'surefire' or 'capture'), null for 'auto'
+     */
+    public String getTagSource() {
+        return tagSource;
+    }
+
+    public void setTagSource(String tagSource) {
+        this.tagSource = tagSource;
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable streaming sketch of test durations (microseconds), with bounded memory.
+ *
+ * Durations are counted in logarithmic buckets (bucket i holds values in (gamma^(i-1), gamma^i]), so that
+ * quantiles are estimated with a relative error lower than RELATIVE_ACCURACY, whatever the number of tests.
+ * Durations up to one day need less than 1300 buckets. Count, total, min and max are exact.
+ *
+ * Two sketches are merged adding the bucket counts, the result is the same as adding all the durations to one sketch.
+ */
+public class DurationSketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = ( 1 + RELATIVE_ACCURACY ) / ( 1 - RELATIVE_ACCURACY );
+
+    private static final double LOG_GAMMA = Math.log( GAMMA );
+
+    private static final int INITIAL_BUCKETS = 64;
+
+    private int[] buckets = new int[0];
+
+    private long zeroCount;
+
+    private long count;
+
+    private long totalMicros;
+
+    private long minMicros = Long.MAX_VALUE;
+
+    private long maxMicros;
+
+    /**
+     * @param micros    the duration in microseconds (negative values are counted as 0)
+     */
+    public void add(long micros) {
+        long value = Math.max( 0L, micros );
+        this.count++;
+        this.totalMicros += value;
+        this.minMicros = Math.min( this.minMicros, value );
+        this.maxMicros = Math.max( this.maxMicros, value );
+        if ( value == 0L ) {
+            this.zeroCount++;
+        } else {
+            int index = (int) Math.ceil( Math.log( value ) / LOG_GAMMA );
+            this.ensureBuckets( index + 1 );
+            this.buckets[index]++;
+        }
+    }
+
+    /**
+     * Adds the durations counted by another sketch.
+     *
+     * @param other the sketch to merge
+     */
+    public void merge(DurationSketch other) {
+        this.count += other.count;
+        this.totalMicros += other.totalMicros;
+        this.minMicros = Math.min( this.minMicros, other.minMicros );
+        this.maxMicros = Math.max( this.maxMicros, other.maxMicros );
+        this.zeroCount += other.zeroCount;
+        this.ensureBuckets( other.buckets.length );
+        for ( int index = 0; index < other.buckets.length; index++ ) {
+            this.buckets[index] += other.buckets[index];
+        }
+    }
+
+    private void ensureBuckets(int size) {
+        if ( this.buckets.length < size ) {
+            this.buckets = Arrays.copyOf( this.buckets, Math.max( size, Math.max( INITIAL_BUCKETS, this.buckets.length * 2 ) ) );
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    /**
+     * @return the min duration in microseconds (0 if no duration is counted)
+     */
+    public long getMinMicros() {
+        return this.count == 0 ? 0L : minMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * @return the mean duration in microseconds (0 if no duration is counted)
+     */
+    public long getMeanMicros() {
+        return this.count == 0 ? 0L : Math.round( (double) this.totalMicros / this.count );
+    }
+
+    /**
+     * Estimates a quantile (nearest rank), the estimate is always between the min and the max duration.
+     *
+     * @param quantile  the quantile (from 0 to 1, for instance 0.9 for the 90th percentile)
+     * @return the estimated duration in microseconds (0 if no duration is counted)
+     */
+    public long getQuantileMicros(double quantile) {
+        if ( this.count == 0 ) {
+            return 0L;
+        }
+        long rank = Math.max( 1L, (long) Math.ceil( Math.min( 1d, Math.max( 0d, quantile ) ) * this.count ) );
+        long seen = this.zeroCount;
+        if ( rank <= seen ) {
+            return 0L;
+        }
+        for ( int index = 0; index < this.buckets.length; index++ ) {
+            seen += this.buckets[index];
+            if ( rank <= seen ) {
+                // value with the lowest relative error for the bucket (gamma^(i-1), gamma^i]
+                double estimate = 2 * Math.pow( GAMMA, index ) / ( GAMMA + 1 );
+                return Math.max( this.minMicros, Math.min( this.maxMicros, Math.round( estimate ) ) );
+            }
+        }
+        return this.maxMicros;
+    }
+
+}
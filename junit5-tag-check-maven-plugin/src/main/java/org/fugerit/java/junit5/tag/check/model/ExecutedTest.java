@@ -0,0 +1,134 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+
+/**
+ * Executed test, the duration is stored as microseconds and the status flags are packed in a single byte
+ * (together with the number of decimal digits of the original time, so that getTime() gives back the same value).
+ */
+@JsonPropertyOrder({"class", "method", "time", "skipped", "failed", "error"})
+public class ExecutedTest {
+
+    public static final byte FLAG_SKIPPED = 1;
+
+    public static final byte FLAG_FAILED = 2;
+
+    public static final byte FLAG_ERROR = 4;
+
+    /**
+     * Orders tests by class name and method name (null names first), the order of written reports
+     */
+    public static final Comparator<ExecutedTest> NAME_ORDER = Comparator
+            .comparing(ExecutedTest::getClassName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(ExecutedTest::getMethodName, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    private static final int SCALE_SHIFT = 3;
+
+    private static final int MAX_SCALE = 6;
+
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L };
+
+    private final String className;
+    private final String methodName;
+    private final long timeMicros;
+    private final byte flags;
+
+    public ExecutedTest(String className, String methodName,
+                        boolean skipped, boolean failed, boolean error, BigDecimal time) {
+        this(className, methodName, skipped, failed, error,
+                time.movePointRight(MAX_SCALE).setScale(0, RoundingMode.HALF_UP).longValue(), time.scale());
+    }
+
+    /**
+     * @param className     the test class name
+     * @param methodName    the test method name
+     * @param skipped       true if the test was skipped
+     * @param failed        true if the test failed
+     * @param error         true if the test ended with an error
+     * @param timeMicros    the duration in microseconds
+     * @param timeScale     the number of decimal digits of the time in seconds (from 0 to 6)
+     */
+    public ExecutedTest(String className, String methodName,
+                        boolean skipped, boolean failed, boolean error, long timeMicros, int timeScale) {
+        this.className = className;
+        this.methodName = methodName;
+        this.timeMicros = timeMicros;
+        int scale = Math.max(0, Math.min(MAX_SCALE, timeScale));
+        this.flags = (byte) ((skipped ? FLAG_SKIPPED : 0) | (failed ? FLAG_FAILED : 0) | (error ? FLAG_ERROR : 0)
+                | (scale << SCALE_SHIFT));
+    }
+
+    /**
+     * Creates an executed test from a time in seconds as text (for instance Surefire 'time' attribute),
+     * plain decimal values are parsed without creating a BigDecimal.
+     *
+     * @param className     the test class name
+     * @param methodName    the test method name
+     * @param skipped       true if the test was skipped
+     * @param failed        true if the test failed
+     * @param error         true if the test ended with an error
+     * @param time          the time in seconds
+     * @return the executed test
+     */
+    public static ExecutedTest of(String className, String methodName,
+                                  boolean skipped, boolean failed, boolean error, String time) {
+        long unscaled = 0;
+        int scale = -1;
+        boolean plain = !time.isEmpty() && time.length() <= 12;
+        for (int k = 0; k < time.length() && plain; k++) {
+            char c = time.charAt(k);
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                plain = false;
+            }
+        }
+        scale = Math.max(scale, 0);
+        if (!plain || scale > MAX_SCALE) {
+            return new ExecutedTest(className, methodName, skipped, failed, error, new BigDecimal(time));
+        }
+        return new ExecutedTest(className, methodName, skipped, failed, error, unscaled * POWERS_OF_TEN[MAX_SCALE - scale], scale);
+    }
+
+    @JsonProperty( "class" )
+    public String getClassName() { return className; }
+
+    @JsonProperty( "method" )
+    public String getMethodName() { return methodName; }
+
+    public boolean isSkipped() { return (flags & FLAG_SKIPPED) != 0; }
+
+    public boolean isFailed() { return (flags & FLAG_FAILED) != 0; }
+
+    public boolean isError() { return (flags & FLAG_ERROR) != 0; }
+
+    public BigDecimal getTime() { return BigDecimal.valueOf(timeMicros, MAX_SCALE).setScale(flags >> SCALE_SHIFT, RoundingMode.HALF_UP); }
+
+    @JsonIgnore
+    public long getTimeMicros() { return timeMicros; }
+
+    @JsonIgnore
+    public double getTimeSeconds() { return timeMicros / 1000000d; }
+
+    /**
+     * @return the number of decimal digits of the time in seconds (from 0 to 6)
+     */
+    @JsonIgnore
+    public int getTimeScale() { return flags >> SCALE_SHIFT; }
+
+    /**
+     * @return status flags (FLAG_SKIPPED, FLAG_FAILED, FLAG_ERROR)
+     */
+    @JsonIgnore
+    public byte getFlags() { return (byte) (flags & (FLAG_SKIPPED | FLAG_FAILED | FLAG_ERROR)); }
+
+}
@@ -0,0 +1,70 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Inputs of a module : Surefire reports, capture files, test classes and test classpath.
+ */
+public class ModuleSource {
+
+    private final String name;
+
+    private final File surefireReportsDirectory;
+
+    private final File captureDirectory;
+
+    private final File testOutputDirectory;
+
+    private final List<String> testClasspathElements;
+
+    private final File parseCacheFile;
+
+    /**
+     * @param name                      the module name (used for logging)
+     * @param surefireReportsDirectory  the directory containing TEST-*.xml reports
+     * @param captureDirectory          the directory containing the capture files (can be null)
+     * @param testOutputDirectory       the test classes directory (can be null)
+     * @param testClasspathElements     the test classpath elements
+     * @param parseCacheFile            the Surefire parse cache file (null to disable the cache)
+     */
+    public ModuleSource(String name, File surefireReportsDirectory, File captureDirectory, File testOutputDirectory,
+                        List<String> testClasspathElements, File parseCacheFile) {
+        this.name = name;
+        this.surefireReportsDirectory = surefireReportsDirectory;
+        this.captureDirectory = captureDirectory;
+        this.testOutputDirectory = testOutputDirectory;
+        this.testClasspathElements = testClasspathElements;
+        this.parseCacheFile = parseCacheFile;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public File getSurefireReportsDirectory() {
+        return surefireReportsDirectory;
+    }
+
+    public File getCaptureDirectory() {
+        return captureDirectory;
+    }
+
+    public File getTestOutputDirectory() {
+        return testOutputDirectory;
+    }
+
+    public List<String> getTestClasspathElements() {
+        return testClasspathElements;
+    }
+
+    public File getParseCacheFile() {
+        return parseCacheFile;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -0,0 +1,215 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import org.fugerit.java.core.util.ObjectUtils;
+import org.fugerit.java.junit5.tag.check.facade.TagCheckFacade;
+
+import java.util.*;
+
+/**
+ * Report data shared by all the report formats, it can be used by more renderers at the same time
+ * (lazy values are created under lock).
+ *
+ * The executed tests are only kept in the test table, other views (tests of each tag, test to tags map)
+ * are created on first access.
+ */
+public class ReportHelper {
+
+    private Map<ExecutedTest, Set<String>> testTagMap;
+
+    private ReportModel reportModel;
+
+    private TestTable testTable;
+
+    private ReportSummary summary;
+
+    private Collection<String> requiredTags;
+
+    private TagCheckResult tagCheckResult;
+
+    private ReportOptions options;
+
+    private Map<String, List<ExecutedTest>> listedTestsByTag;
+
+    private List<ExecutedTest> slowestTests;
+
+    private Map<String, List<ExecutedTest>> slowestTestsByTag;
+
+    public ReportHelper(Map<ExecutedTest, Set<String>> testTagMap, Collection<String> requiredTags) {
+        this(testTagMap, requiredTags, new ReportOptions());
+    }
+
+    public ReportHelper(Map<ExecutedTest, Set<String>> testTagMap, Collection<String> requiredTags, ReportOptions options) {
+        this(new TestTable( testTagMap ), requiredTags, options);
+    }
+
+    public ReportHelper(TestTable testTable, Collection<String> requiredTags) {
+        this(testTable, requiredTags, new ReportOptions());
+    }
+
+    public ReportHelper(TestTable testTable, Collection<String> requiredTags, ReportOptions options) {
+        this.testTable = testTable;
+        // counters and tag stats
+        this.summary = new ReportSummary( this.testTable );
+
+        this.requiredTags = requiredTags;
+        this.options = options;
+    }
+
+    /*
+     * a single pass on the test table, with a bounded heap for all the tests and one for each tag (indexed by tag id),
+     * the tag ids of each row are read from the shared tag set of the row (no copy)
+     */
+    private void selectSlowestTests(int limit) {
+        TagDictionary dictionary = this.testTable.getDictionary();
+        SlowestTests overall = new SlowestTests( limit );
+        SlowestTests[] byTagId = new SlowestTests[dictionary.size()];
+        for ( int id = 0; id < byTagId.length; id++ ) {
+            byTagId[id] = new SlowestTests( limit );
+        }
+        if ( limit > 0 ) {
+            for ( int row = 0; row < this.testTable.size(); row++ ) {
+                ExecutedTest test = this.testTable.getTest( row );
+                overall.add( test );
+                for ( int id = this.testTable.nextTagId( row, 0 ); id >= 0; id = this.testTable.nextTagId( row, id + 1 ) ) {
+                    byTagId[id].add( test );
+                }
+            }
+        }
+        this.slowestTests = Collections.unmodifiableList( overall.getTests() );
+        Map<String, List<ExecutedTest>> byTag = new LinkedHashMap<>();
+        for ( String tag : this.summary.getFoundTags() ) {
+            byTag.put( tag, Collections.unmodifiableList( byTagId[dictionary.lookup( tag )].getTests() ) );
+        }
+        this.slowestTestsByTag = Collections.unmodifiableMap( byTag );
+    }
+
+    public ReportOptions getOptions() {
+        return this.options;
+    }
+
+    /**
+     * @param section   the section (see ReportOptions.SECTIONS)
+     * @return true if the section should be rendered
+     */
+    public boolean isSectionEnabled(String section) {
+        return this.options.isSectionEnabled( section );
+    }
+
+    /**
+     * @return the tags of each executed test, created on first access
+     * @deprecated the map holds a set of tags for each test, iterate the test table rows instead (see getTestTable())
+     */
+    @Deprecated
+    public synchronized Map<ExecutedTest, Set<String>> getTestTagMap() {
+        if ( this.testTagMap == null ) {
+            Map<ExecutedTest, Set<String>> map = new LinkedHashMap<>();
+            for ( int row = 0; row < this.testTable.size(); row++ ) {
+                map.put( this.testTable.getTest( row ), this.testTable.getTags( row ) );
+            }
+            this.testTagMap = Collections.unmodifiableMap( map );
+        }
+        return this.testTagMap;
+    }
+
+    /**
+     * @return the executed tests with their tags, created on first access
+     */
+    public synchronized ReportModel getReportModel() {
+        if ( this.reportModel == null ) {
+            ReportModel model = new ReportModel();
+            for ( int row = 0; row < this.testTable.size(); row++ ) {
+                model.getExecutedTests().add( new TaggedTest( this.testTable.getTest( row ), this.testTable.getTags( row ) ) );
+            }
+            this.reportModel = model;
+        }
+        return this.reportModel;
+    }
+
+    public TestTable getTestTable() {
+        return this.testTable;
+    }
+
+    public ReportSummary getSummary() {
+        return this.summary;
+    }
+
+    public long getSummaryPass() {
+        return this.summary.getPassed();
+    }
+
+    public long getSummaryFail() {
+        return this.summary.getFailed();
+    }
+
+    public long getSummaryError() {
+        return this.summary.getErrors();
+    }
+
+    public Map<String, List<ExecutedTest>> getTagsSummary() {
+        return this.summary.getTagToTests();
+    }
+
+    public Map<String, List<ExecutedTest>> getTagsToTests() {
+        return this.summary.getTagToTests();
+    }
+
+    /**
+     * Tests to list for each tag : all the tests, or the slowest ones (slowest first)
+     * when a maximum number of tests per tag is set (see ReportOptions.getMaxTestsPerTag()).
+     *
+     * @return the tests to list for each tag
+     */
+    public synchronized Map<String, List<ExecutedTest>> getListedTestsByTag() {
+        if ( this.listedTestsByTag == null ) {
+            int maxTestsPerTag = this.options.getMaxTestsPerTag();
+            if ( maxTestsPerTag <= 0 ) {
+                this.listedTestsByTag = this.summary.getTagToTests();
+            } else {
+                // selected from the rows of each tag, the lists of all the tests of each tag are not created
+                Map<String, List<ExecutedTest>> listed = new LinkedHashMap<>();
+                for ( String tag : this.summary.getFoundTags() ) {
+                    SlowestTests selected = new SlowestTests( maxTestsPerTag );
+                    BitSet rows = this.testTable.getRows( tag );
+                    for ( int row = rows.nextSetBit( 0 ); row >= 0; row = rows.nextSetBit( row + 1 ) ) {
+                        selected.add( this.testTable.getTest( row ) );
+                    }
+                    listed.put( tag, Collections.unmodifiableList( selected.getTests() ) );
+                }
+                this.listedTestsByTag = Collections.unmodifiableMap( listed );
+            }
+        }
+        return this.listedTestsByTag;
+    }
+
+    /**
+     * @return the slowest tests (slowest first), empty if disabled (see ReportOptions.getSlowestTests()), selected on first access
+     */
+    public synchronized List<ExecutedTest> getSlowestTests() {
+        if ( this.slowestTests == null ) {
+            this.selectSlowestTests( this.options.getSlowestTests() );
+        }
+        return this.slowestTests;
+    }
+
+    /**
+     * @return the slowest tests of each tag (slowest first), in the order tags are first found, selected on first access
+     */
+    public synchronized Map<String, List<ExecutedTest>> getSlowestTestsByTag() {
+        if ( this.slowestTestsByTag == null ) {
+            this.selectSlowestTests( this.options.getSlowestTests() );
+        }
+        return this.slowestTestsByTag;
+    }
+
+    public Map<String, TestStats> getTagsStats() {
+        return this.summary.getTagStats();
+    }
+
+    public synchronized TagCheckResult getTagCheckResult() {
+        if ( this.tagCheckResult == null ) {
+            this.tagCheckResult = TagCheckFacade.checkHelper(ObjectUtils.objectWithDefault( this.requiredTags, Collections.emptyList() ), this.testTable );
+        }
+        return this.tagCheckResult;
+    }
+
+}
@@ -9,9 +9,9 @@ public class ReportModel {
         this.executedTests = new ArrayList<>();
     }
 
-    private List<ExecutedTest> executedTests;
+    private List<TaggedTest> executedTests;
 
-    public List<ExecutedTest> getExecutedTests() {
+    public List<TaggedTest> getExecutedTests() {
         return this.executedTests;
     }
 
@@ -0,0 +1,113 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.*;
+
+/**
+ * Report generation options.
+ */
+public class ReportOptions {
+
+    /**
+     * Execution summary (counters and general result)
+     */
+    public static final String SECTION_SUMMARY = "summary";
+
+    /**
+     * Summary by tag
+     */
+    public static final String SECTION_TAGS_SUMMARY = "tags-summary";
+
+    /**
+     * Executed tests by tag (text report)
+     */
+    public static final String SECTION_TESTS_BY_TAG = "tests-by-tag";
+
+    /**
+     * All executed tests with tags
+     */
+    public static final String SECTION_ALL_TESTS = "all-tests";
+
+    /**
+     * Slowest tests, overall and by tag
+     */
+    public static final String SECTION_SLOWEST_TESTS = "slowest-tests";
+
+    public static final List<String> SECTIONS = Collections.unmodifiableList( Arrays.asList(
+            SECTION_SUMMARY, SECTION_TAGS_SUMMARY, SECTION_SLOWEST_TESTS, SECTION_TESTS_BY_TAG, SECTION_ALL_TESTS ) );
+
+    /**
+     * The slowest tests are listed only when requested
+     */
+    public static final int DEFAULT_SLOWEST_TESTS = 0;
+
+    private boolean includeSkipped;
+
+    private boolean prettyPrint = true;
+
+    private Set<String> sections;
+
+    private int maxTestsPerTag;
+
+    private int slowestTests = DEFAULT_SLOWEST_TESTS;
+
+    public boolean isIncludeSkipped() {
+        return includeSkipped;
+    }
+
+    public void setIncludeSkipped(boolean includeSkipped) {
+        this.includeSkipped = includeSkipped;
+    }
+
+    /**
+     * @return true if structured reports (json, xml) should be indented, default true
+     */
+    public boolean isPrettyPrint() {
+        return prettyPrint;
+    }
+
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+    }
+
+    /**
+     * @return the sections to render, null or empty for all the sections
+     */
+    public Set<String> getSections() {
+        return sections;
+    }
+
+    public void setSections(Collection<String> sections) {
+        this.sections = sections == null ? null : new LinkedHashSet<>( sections );
+    }
+
+    /**
+     * @param section   the section (see SECTIONS)
+     * @return true if the section should be rendered
+     */
+    public boolean isSectionEnabled(String section) {
+        return this.sections == null || this.sections.isEmpty() || this.sections.contains( section );
+    }
+
+    /**
+     * @return the maximum number of tests listed for each tag (the slowest ones), 0 for no limit
+     */
+    public int getMaxTestsPerTag() {
+        return maxTestsPerTag;
+    }
+
+    public void setMaxTestsPerTag(int maxTestsPerTag) {
+        this.maxTestsPerTag = maxTestsPerTag;
+    }
+
+    /**
+     * @return the number of slowest tests listed, overall and for each tag, 0 to disable (default)
+     */
+    public int getSlowestTests() {
+        return slowestTests;
+    }
+
+    public void setSlowestTests(int slowestTests) {
+        this.slowestTests = slowestTests;
+    }
+
+}
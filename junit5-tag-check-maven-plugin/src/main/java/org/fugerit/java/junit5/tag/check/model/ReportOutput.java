@@ -0,0 +1,47 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.io.File;
+
+/**
+ * A report to generate : format and output file.
+ */
+public class ReportOutput {
+
+    private String format;
+
+    private File outputFile;
+
+    public ReportOutput() {
+        // default constructor, used for maven plugin configuration
+    }
+
+    public ReportOutput(String format, File outputFile) {
+        this.format = format;
+        this.outputFile = outputFile;
+    }
+
+    /**
+     * @return the report format (text, json, xml, html, pdf, xlsx, md, adoc)
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public File getOutputFile() {
+        return outputFile;
+    }
+
+    public void setOutputFile(File outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    @Override
+    public String toString() {
+        return this.format + " : " + this.outputFile;
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.*;
+
+/**
+ * Report aggregate, computed once from the executed tests (see {@link TestTable}).
+ *
+ * Tags are kept in the order they are first found.
+ * The lists of tests of each tag are created only on first access (see getTagToTests()), the table rows are used otherwise.
+ */
+public class ReportSummary {
+
+    private final int total;
+    private final int passed;
+    private final int failed;
+    private final int errors;
+    private final int skipped;
+    private final int withoutTags;
+
+    private final TestTable table;
+
+    private final Map<String, TestStats> tagStats;
+
+    private Map<String, List<ExecutedTest>> tagToTests;
+
+    public ReportSummary(Map<ExecutedTest, Set<String>> testTagMap) {
+        this(new TestTable(testTagMap));
+    }
+
+    public ReportSummary(TestTable table) {
+        this.table = table;
+        this.total = table.size();
+        this.passed = table.countPassed();
+        this.failed = table.countFailed();
+        this.errors = table.countErrors();
+        this.skipped = table.countSkipped();
+        this.withoutTags = table.countWithoutTags();
+        Map<String, TestStats> stats = new LinkedHashMap<>();
+        for (String tag : table.getFoundTags()) {
+            stats.put(tag, table.getStats(tag));
+        }
+        this.tagStats = Collections.unmodifiableMap(stats);
+    }
+
+    public int getTotal() { return total; }
+
+    /**
+     * @return tests neither failed nor in error (skipped tests included)
+     */
+    public int getPassed() { return passed; }
+
+    public int getFailed() { return failed; }
+
+    public int getErrors() { return errors; }
+
+    public int getSkipped() { return skipped; }
+
+    public int getWithoutTags() { return withoutTags; }
+
+    public Map<String, TestStats> getTagStats() { return tagStats; }
+
+    /**
+     * @return the tests of each tag, created on first access
+     */
+    public synchronized Map<String, List<ExecutedTest>> getTagToTests() {
+        if (this.tagToTests == null) {
+            Map<String, List<ExecutedTest>> tests = new LinkedHashMap<>();
+            for (String tag : this.tagStats.keySet()) {
+                tests.put(tag, Collections.unmodifiableList(this.table.getTests(this.table.getRows(tag))));
+            }
+            this.tagToTests = Collections.unmodifiableMap(tests);
+        }
+        return this.tagToTests;
+    }
+
+    public Set<String> getFoundTags() { return tagStats.keySet(); }
+
+}
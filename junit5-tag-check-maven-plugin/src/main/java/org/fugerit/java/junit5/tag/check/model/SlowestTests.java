@@ -0,0 +1,89 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.*;
+
+/**
+ * Selection of the slowest tests, with a bounded min heap (the fastest of the selected tests is on top),
+ * so only 'limit' tests are kept whatever the number of tests.
+ *
+ * Tests can be added one at a time (for instance while aggregating or merging reports), or selected from a collection.
+ */
+public class SlowestTests {
+
+    /**
+     * Slowest first, same duration in the original order
+     */
+    private static final Comparator<Map.Entry<Integer, ExecutedTest>> SLOWEST_FIRST =
+            Comparator.comparingLong( (Map.Entry<Integer, ExecutedTest> e) -> e.getValue().getTimeMicros() ).reversed()
+                    .thenComparingInt( Map.Entry::getKey );
+
+    private final int limit;
+
+    // top of the heap : the test to drop first (fastest, then latest)
+    private final PriorityQueue<Map.Entry<Integer, ExecutedTest>> heap;
+
+    private int index;
+
+    /**
+     * @param limit     the maximum number of tests to select (no test is selected if 0 or less)
+     */
+    public SlowestTests(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>( Math.max( 1, limit + 1 ), SLOWEST_FIRST.reversed() );
+    }
+
+    /**
+     * @param test  the test to add, kept only if it is one of the slowest added so far
+     */
+    public void add(ExecutedTest test) {
+        if ( this.limit <= 0 ) {
+            return;
+        }
+        Map.Entry<Integer, ExecutedTest> entry = new AbstractMap.SimpleImmutableEntry<>( this.index++, test );
+        if ( this.heap.size() < this.limit ) {
+            this.heap.add( entry );
+        } else if ( SLOWEST_FIRST.compare( entry, this.heap.peek() ) < 0 ) {
+            this.heap.poll();
+            this.heap.add( entry );
+        }
+    }
+
+    /**
+     * @param timeMicros    the duration of a test
+     * @return true if a test with the given duration, added now, would be kept
+     */
+    public boolean isCandidate(long timeMicros) {
+        // same duration : the test added first is kept
+        return this.limit > 0 && ( this.heap.size() < this.limit || timeMicros > this.heap.peek().getValue().getTimeMicros() );
+    }
+
+    /**
+     * @return the slowest tests added so far, sorted by duration (slowest first)
+     */
+    public List<ExecutedTest> getTests() {
+        List<Map.Entry<Integer, ExecutedTest>> selected = new ArrayList<>( this.heap );
+        selected.sort( SLOWEST_FIRST );
+        List<ExecutedTest> result = new ArrayList<>( selected.size() );
+        for ( Map.Entry<Integer, ExecutedTest> entry : selected ) {
+            result.add( entry.getValue() );
+        }
+        return result;
+    }
+
+    /**
+     * @param tests     the tests
+     * @param limit     the maximum number of tests to select
+     * @return the slowest tests, sorted by duration (slowest first)
+     */
+    public static List<ExecutedTest> select(Iterable<ExecutedTest> tests, int limit) {
+        if ( limit <= 0 ) {
+            return Collections.emptyList();
+        }
+        SlowestTests slowestTests = new SlowestTests( limit );
+        for ( ExecutedTest test : tests ) {
+            slowestTests.add( test );
+        }
+        return slowestTests.getTests();
+    }
+
+}
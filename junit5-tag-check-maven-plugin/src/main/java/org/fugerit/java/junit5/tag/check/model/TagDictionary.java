@@ -0,0 +1,72 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.*;
+
+/**
+ * Maps each distinct tag to an int id, ids are assigned in the order tags are first added.
+ */
+public class TagDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    private final List<String> tags = new ArrayList<>();
+
+    /**
+     * Returns the id of a tag, adding it to the dictionary if missing.
+     *
+     * @param tag   the tag
+     * @return the tag id
+     */
+    public int add(String tag) {
+        Integer id = this.ids.get(tag);
+        if (id == null) {
+            id = this.tags.size();
+            this.ids.put(tag, id);
+            this.tags.add(tag);
+        }
+        return id;
+    }
+
+    /**
+     * @param tag   the tag
+     * @return the tag id, or NOT_FOUND
+     */
+    public int lookup(String tag) {
+        Integer id = this.ids.get(tag);
+        return id == null ? NOT_FOUND : id;
+    }
+
+    public String getTag(int id) {
+        return this.tags.get(id);
+    }
+
+    public int size() {
+        return this.tags.size();
+    }
+
+    /**
+     * @return all the tags, in id order
+     */
+    public List<String> getTags() {
+        return Collections.unmodifiableList(this.tags);
+    }
+
+    public BitSet encode(Collection<String> tags) {
+        BitSet bits = new BitSet();
+        for (String tag : tags) {
+            bits.set(this.add(tag));
+        }
+        return bits;
+    }
+
+    public Set<String> decode(BitSet bits) {
+        Set<String> decoded = new LinkedHashSet<>();
+        for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+            decoded.add(this.tags.get(id));
+        }
+        return decoded;
+    }
+
+}
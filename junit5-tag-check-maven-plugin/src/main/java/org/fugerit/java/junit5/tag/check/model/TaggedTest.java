@@ -0,0 +1,32 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Executed test with its tags, the element of the ReportModel (same properties of the previous ExecutedTest serialization).
+ *
+ * Tags are not kept by ExecutedTest (see TestTable), so this view is only created by ReportHelper.getReportModel().
+ */
+@JsonPropertyOrder({"class", "method", "time", "skipped", "failed", "error", "tags"})
+public class TaggedTest extends ExecutedTest {
+
+    private final List<String> tags;
+
+    /**
+     * @param test  the executed test
+     * @param tags  the tags of the test
+     */
+    public TaggedTest(ExecutedTest test, Collection<String> tags) {
+        super(test.getClassName(), test.getMethodName(), test.isSkipped(), test.isFailed(), test.isError(),
+                test.getTimeMicros(), test.getTimeScale());
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+    }
+
+    public List<String> getTags() { return tags; }
+
+}
@@ -0,0 +1,132 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Test counters and durations (see {@link DurationSketch}) of a group of tests, for instance the tests with a tag.
+ *
+ * Times are in seconds, with milliseconds precision.
+ */
+public class TestStats {
+
+    private int total = 0;
+    private int failed = 0;
+    private int errors = 0;
+    private int skipped = 0;
+
+    private final DurationSketch durations = new DurationSketch();
+
+    public TestStats() {
+    }
+
+    public TestStats(int total, int failed, int errors, int skipped) {
+        this.total = total;
+        this.failed = failed;
+        this.errors = errors;
+        this.skipped = skipped;
+    }
+
+    public void increaseTotal() {
+        this.total++;
+    }
+
+    public void increaseFailed() {
+        this.failed++;
+    }
+
+    public void increaseErrors() {
+        this.errors++;
+    }
+
+    public void increaseSkipped() {
+        this.skipped++;
+    }
+
+    /**
+     * Counts a test and its duration.
+     *
+     * @param test  the executed test
+     */
+    public void add(ExecutedTest test) {
+        this.increaseTotal();
+        if (test.isFailed()) {
+            this.increaseFailed();
+        }
+        if (test.isError()) {
+            this.increaseErrors();
+        }
+        if (test.isSkipped()) {
+            this.increaseSkipped();
+        }
+        this.addDuration(test.getTimeMicros());
+    }
+
+    /**
+     * @param micros    the duration of a test in microseconds
+     */
+    public void addDuration(long micros) {
+        this.durations.add(micros);
+    }
+
+    /**
+     * Adds counters and durations of other stats.
+     *
+     * @param other the stats to merge
+     */
+    public void merge(TestStats other) {
+        this.total += other.total;
+        this.failed += other.failed;
+        this.errors += other.errors;
+        this.skipped += other.skipped;
+        this.durations.merge(other.durations);
+    }
+
+    public DurationSketch getDurations() {
+        return durations;
+    }
+
+    public BigDecimal getTotalTime() {
+        return toSeconds(this.durations.getTotalMicros());
+    }
+
+    public BigDecimal getMeanTime() {
+        return toSeconds(this.durations.getMeanMicros());
+    }
+
+    public BigDecimal getP50Time() {
+        return toSeconds(this.durations.getQuantileMicros(0.5d));
+    }
+
+    public BigDecimal getP90Time() {
+        return toSeconds(this.durations.getQuantileMicros(0.9d));
+    }
+
+    public BigDecimal getP99Time() {
+        return toSeconds(this.durations.getQuantileMicros(0.99d));
+    }
+
+    public BigDecimal getMaxTime() {
+        return toSeconds(this.durations.getMaxMicros());
+    }
+
+    private static BigDecimal toSeconds(long micros) {
+        return BigDecimal.valueOf(micros, 6).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
\ No newline at end of file
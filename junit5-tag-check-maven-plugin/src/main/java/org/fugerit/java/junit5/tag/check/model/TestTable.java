@@ -0,0 +1,248 @@
+package org.fugerit.java.junit5.tag.check.model;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar table of executed tests, tags are dictionary encoded (see {@link TagDictionary}).
+ *
+ * Each row (test) has a bitset of tag ids, shared among rows with the same tags.
+ * Each tag has a bitset of rows, and status flags are bitsets of rows too,
+ * so per tag counts are intersections and popcounts.
+ * The stats of each tag (counters and duration sketch) are updated while the tests are added.
+ *
+ * The table is the only representation of the executed tests from collection to report rendering :
+ * tests are added while collected (see TagCollectFacade), tags of a row are never copied.
+ */
+public class TestTable {
+
+    private final TagDictionary dictionary;
+
+    private final List<ExecutedTest> tests = new ArrayList<>();
+
+    private final List<BitSet> testTags = new ArrayList<>();
+
+    private final Map<BitSet, BitSet> distinctTestTags = new HashMap<>();
+
+    private final List<BitSet> tagRows = new ArrayList<>();
+
+    private final List<TestStats> tagStats = new ArrayList<>();
+
+    private final BitSet failedRows = new BitSet();
+
+    private final BitSet errorRows = new BitSet();
+
+    private final BitSet skippedRows = new BitSet();
+
+    private final BitSet taggedRows = new BitSet();
+
+    public TestTable() {
+        this(new TagDictionary());
+    }
+
+    public TestTable(TagDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public TestTable(Map<ExecutedTest, Set<String>> testTagMap) {
+        this();
+        for (Map.Entry<ExecutedTest, Set<String>> entry : testTagMap.entrySet()) {
+            this.add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Adds all the tests of another table (for instance of another module).
+     *
+     * Tag ids are mapped once to the dictionary of this table, the stats of each tag are merged
+     * (see TestStats.merge()) instead of being computed again from the tests.
+     *
+     * @param other the table to add
+     */
+    public void addAll(TestTable other) {
+        int[] ids = new int[other.dictionary.size()];
+        for (int id = 0; id < ids.length; id++) {
+            ids[id] = this.dictionary.add(other.dictionary.getTag(id));
+        }
+        // tag sets are shared among rows, each one is mapped once
+        Map<BitSet, BitSet> mapped = new HashMap<>();
+        for (int row = 0; row < other.size(); row++) {
+            BitSet tagIds = mapped.computeIfAbsent(other.testTags.get(row), otherIds -> {
+                BitSet current = new BitSet();
+                for (int id = otherIds.nextSetBit(0); id >= 0; id = otherIds.nextSetBit(id + 1)) {
+                    current.set(ids[id]);
+                }
+                return current;
+            });
+            this.addRow(other.getTest(row), tagIds);
+        }
+        for (int id = 0; id < other.tagStats.size(); id++) {
+            if (!other.tagRows.get(id).isEmpty()) {
+                this.tagStats.get(ids[id]).merge(other.tagStats.get(id));
+            }
+        }
+    }
+
+    /**
+     * Adds a test.
+     *
+     * @param test  the executed test
+     * @param tags  the tags of the test
+     * @return the row of the test
+     */
+    public int add(ExecutedTest test, Collection<String> tags) {
+        BitSet tagIds = this.dictionary.encode(tags);
+        int row = this.addRow(test, tagIds);
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            this.tagStats.get(id).add(test);
+        }
+        return row;
+    }
+
+    /*
+     * adds a test and its tag ids, the stats of the tags are not updated
+     */
+    private int addRow(ExecutedTest test, BitSet tagIds) {
+        int row = this.tests.size();
+        this.tests.add(test);
+        BitSet shared = this.distinctTestTags.putIfAbsent(tagIds, tagIds);
+        this.testTags.add(shared == null ? tagIds : shared);
+        for (int id = tagIds.nextSetBit(0); id >= 0; id = tagIds.nextSetBit(id + 1)) {
+            while (this.tagRows.size() <= id) {
+                this.tagRows.add(new BitSet());
+                this.tagStats.add(new TestStats());
+            }
+            this.tagRows.get(id).set(row);
+        }
+        if (!tagIds.isEmpty()) this.taggedRows.set(row);
+        if (test.isFailed()) this.failedRows.set(row);
+        if (test.isError()) this.errorRows.set(row);
+        if (test.isSkipped()) this.skippedRows.set(row);
+        return row;
+    }
+
+    public TagDictionary getDictionary() {
+        return this.dictionary;
+    }
+
+    public int size() {
+        return this.tests.size();
+    }
+
+    public ExecutedTest getTest(int row) {
+        return this.tests.get(row);
+    }
+
+    /**
+     * @return the rows ordered by class and method name (see ExecutedTest.NAME_ORDER), rows with the same names keep their order
+     */
+    public int[] getRowsByName() {
+        return IntStream.range(0, this.tests.size()).boxed()
+                .sorted(Comparator.comparing(this.tests::get, ExecutedTest.NAME_ORDER))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * @param row   the test row
+     * @return a copy of the tag ids of the test
+     */
+    public BitSet getTagIds(int row) {
+        return (BitSet) this.testTags.get(row).clone();
+    }
+
+    /**
+     * Iterates the tag ids of a test without copying them, as BitSet.nextSetBit() :
+     * <pre>
+     * for (int id = table.nextTagId(row, 0); id >= 0; id = table.nextTagId(row, id + 1)) { ... }
+     * </pre>
+     *
+     * @param row       the test row
+     * @param fromId    the first tag id to check
+     * @return the first tag id of the test greater or equal to fromId, or -1 if none
+     */
+    public int nextTagId(int row, int fromId) {
+        return this.testTags.get(row).nextSetBit(fromId);
+    }
+
+    /**
+     * @param row   the test row
+     * @return true if the test has at least a tag
+     */
+    public boolean hasTags(int row) {
+        return this.taggedRows.get(row);
+    }
+
+    /**
+     * @param row   the test row
+     * @return the tags of the test (decoded in a new set)
+     */
+    public Set<String> getTags(int row) {
+        return this.dictionary.decode(this.testTags.get(row));
+    }
+
+    /**
+     * @param tag   the tag
+     * @return a copy of the rows of the tests with the given tag (empty if the tag is not found)
+     */
+    public BitSet getRows(String tag) {
+        int id = this.dictionary.lookup(tag);
+        return id == TagDictionary.NOT_FOUND || id >= this.tagRows.size() ? new BitSet() : (BitSet) this.tagRows.get(id).clone();
+    }
+
+    public List<ExecutedTest> getTests(BitSet rows) {
+        List<ExecutedTest> selected = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            selected.add(this.tests.get(row));
+        }
+        return selected;
+    }
+
+    /**
+     * @return the tags found in at least one test, in the order they were first found
+     */
+    public Set<String> getFoundTags() {
+        Set<String> foundTags = new LinkedHashSet<>();
+        for (int id = 0; id < this.tagRows.size(); id++) {
+            if (!this.tagRows.get(id).isEmpty()) {
+                foundTags.add(this.dictionary.getTag(id));
+            }
+        }
+        return foundTags;
+    }
+
+    /**
+     * @param tag   the tag
+     * @return the stats of the tests with the given tag, updated as tests are added (empty stats if the tag is not found)
+     */
+    public TestStats getStats(String tag) {
+        int id = this.dictionary.lookup(tag);
+        return id == TagDictionary.NOT_FOUND || id >= this.tagStats.size() ? new TestStats() : this.tagStats.get(id);
+    }
+
+    public int countFailed() {
+        return this.failedRows.cardinality();
+    }
+
+    public int countErrors() {
+        return this.errorRows.cardinality();
+    }
+
+    public int countSkipped() {
+        return this.skippedRows.cardinality();
+    }
+
+    /**
+     * @return tests neither failed nor in error (skipped tests included)
+     */
+    public int countPassed() {
+        BitSet notPassed = (BitSet) this.failedRows.clone();
+        notPassed.or(this.errorRows);
+        return this.size() - notPassed.cardinality();
+    }
+
+    public int countWithoutTags() {
+        return this.size() - this.taggedRows.cardinality();
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.junit5.tag.check.facade.BinaryReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Compact binary report ('binary' format), read back by {@link org.fugerit.java.junit5.tag.check.model.BinaryReport}.
+ */
+public class BinaryReportRenderer implements ReportRenderer {
+
+    public static final String FORMAT_BINARY = "binary";
+
+    @Override
+    public Collection<String> getFormats() {
+        return Collections.singletonList( FORMAT_BINARY );
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        BinaryReportWriter.write( outputFile, helper );
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.doc.base.config.DocConfig;
+import org.fugerit.java.junit5.tag.check.facade.DocHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reports based on the common fj-doc template (html, pdf, xlsx, md, adoc).
+ *
+ * Freemarker, FOP and POI classes are only referenced through DocHelper, so they are loaded
+ * the first time one of these formats is rendered.
+ */
+public class FjDocReportRenderer implements ReportRenderer {
+
+    private static final Collection<String> FORMATS = Collections.unmodifiableList( Arrays.asList(
+            DocConfig.TYPE_HTML, DocConfig.TYPE_XLSX, DocConfig.TYPE_PDF, DocConfig.TYPE_MD, DocConfig.TYPE_ADOC ) );
+
+    @Override
+    public Collection<String> getFormats() {
+        return FORMATS;
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        try (OutputStream os = new FileOutputStream(outputFile)) {
+            new DocHelper().generateReport( format, helper, os );
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.junit5.tag.check.facade.HtmlPagedReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Paged HTML report for large suites ('html-paged' format), summary tables and a JSON data island
+ * rendered by the browser a page at a time.
+ */
+public class HtmlPagedReportRenderer implements ReportRenderer {
+
+    public static final String FORMAT_HTML_PAGED = "html-paged";
+
+    @Override
+    public Collection<String> getFormats() {
+        return Collections.singletonList( FORMAT_HTML_PAGED );
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        HtmlPagedReportWriter.write( outputFile, helper );
+    }
+
+}
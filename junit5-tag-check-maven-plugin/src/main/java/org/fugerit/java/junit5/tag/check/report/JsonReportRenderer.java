@@ -0,0 +1,28 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.doc.base.config.DocConfig;
+import org.fugerit.java.junit5.tag.check.facade.JsonReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * JSON report (streaming JsonGenerator), with the stats and the slowest tests of each tag.
+ */
+public class JsonReportRenderer implements ReportRenderer {
+
+    @Override
+    public Collection<String> getFormats() {
+        return Collections.singletonList( DocConfig.TYPE_JSON );
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        JsonReportWriter.write( outputFile, helper, options.isPrettyPrint() );
+    }
+
+}
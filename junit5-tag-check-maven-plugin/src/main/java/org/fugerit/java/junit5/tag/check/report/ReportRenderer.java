@@ -0,0 +1,35 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Report renderer, discovered through ServiceLoader
+ * (META-INF/services/org.fugerit.java.junit5.tag.check.report.ReportRenderer).
+ *
+ * Renderers are created once and may be used by more threads at the same time, so they should be stateless.
+ * Custom formats can be added with a plugin dependency providing a renderer.
+ */
+public interface ReportRenderer {
+
+    /**
+     * @return the formats handled by this renderer (lower case)
+     */
+    Collection<String> getFormats();
+
+    /**
+     * Renders a report.
+     *
+     * @param format        the requested format (lower case, one of getFormats())
+     * @param outputFile    the file to write
+     * @param helper        the report data
+     * @param options       the report options
+     * @throws IOException  in case of errors writing the report
+     */
+    void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException;
+
+}
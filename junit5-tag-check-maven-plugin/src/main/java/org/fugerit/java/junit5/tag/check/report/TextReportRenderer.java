@@ -0,0 +1,34 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.junit5.tag.check.facade.TextReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Text report, also used for unknown formats.
+ */
+public class TextReportRenderer implements ReportRenderer {
+
+    public static final String FORMAT_TEXT = "text";
+
+    public static final String FORMAT_TXT = "txt";
+
+    private static final Collection<String> FORMATS = Collections.unmodifiableList( Arrays.asList( FORMAT_TEXT, FORMAT_TXT ) );
+
+    @Override
+    public Collection<String> getFormats() {
+        return FORMATS;
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        TextReportWriter.write( outputFile, helper, options );
+    }
+
+}
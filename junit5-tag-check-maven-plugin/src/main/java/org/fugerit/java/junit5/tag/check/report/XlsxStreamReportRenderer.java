@@ -0,0 +1,32 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.junit5.tag.check.facade.XlsxStreamReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * XLSX report for large suites ('xlsx-stream' format), rows are streamed to disk with a bounded window.
+ *
+ * POI classes are only referenced through XlsxStreamReportWriter, so they are loaded
+ * the first time this format is rendered.
+ */
+public class XlsxStreamReportRenderer implements ReportRenderer {
+
+    public static final String FORMAT_XLSX_STREAM = "xlsx-stream";
+
+    @Override
+    public Collection<String> getFormats() {
+        return Collections.singletonList( FORMAT_XLSX_STREAM );
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        XlsxStreamReportWriter.write( outputFile, helper );
+    }
+
+}
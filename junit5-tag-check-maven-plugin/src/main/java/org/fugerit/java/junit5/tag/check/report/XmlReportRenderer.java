@@ -0,0 +1,28 @@
+package org.fugerit.java.junit5.tag.check.report;
+
+import org.fugerit.java.doc.base.config.DocConfig;
+import org.fugerit.java.junit5.tag.check.facade.XmlReportWriter;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * XML report (streaming XMLStreamWriter).
+ */
+public class XmlReportRenderer implements ReportRenderer {
+
+    @Override
+    public Collection<String> getFormats() {
+        return Collections.singletonList( DocConfig.TYPE_XML );
+    }
+
+    @Override
+    public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+        XmlReportWriter.write( outputFile, helper, options.isPrettyPrint() );
+    }
+
+}
@@ -11,8 +11,8 @@
     <#assign skipForeColor="#909090">
     <#assign defaultTableBorderSize="0">
     
-    <#assign testTagMap=report.testTagMap/>
-    <#assign tagsSummary=report.tagsSummary/>
+    <#assign testTable=report.testTable/>
+    <#assign tagsStats=report.tagsStats/>
 
     <metadata>
         <!-- Margin for document : left;right;top;bottom -->
@@ -36,11 +36,12 @@
             .skip { color: gray; }
             .tag { background-color: #e7f3ff; padding: 2px 8px; border-radius: 3px; margin: 2px; display: inline-block; }
         </info>
-        <info name="excel-table-id">summary-table=Summary;tags-summary-table=Tags Summary;all-tests-table=All Executed Tests</info>
+        <info name="excel-table-id">summary-table=Summary;tags-summary-table=Tags Summary;slowest-tests-table=Slowest Tests;slowest-tests-by-tag-table=Slowest Tests by Tag;all-tests-table=All Executed Tests</info>
     </metadata>
     <body>
     <h head-level="1" style="bold">${docTitle}</h>
 
+    <#if report.isSectionEnabled('summary')>
     <h head-level="2" style="bold" space-before="20">Summary</h>
 
     <table columns="2" colwidths="50;50"  width="100" id="summary-table">
@@ -50,7 +51,7 @@
         </row>
         <row>
             <cell border-width="${defaultTableBorderSize}"><phrase>Total Tests</phrase></cell>
-            <cell border-width="${defaultTableBorderSize}"><phrase>${testTagMap?size}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${report.summary.total}</phrase></cell>
         </row>
         <row>
             <cell border-width="${defaultTableBorderSize}"><phrase>Passed</phrase></cell>
@@ -70,27 +71,84 @@
             <cell border-width="${defaultTableBorderSize}"><phrase <#if tagCheckResult.resultOk >class="pass"<#else>class="error"</#if>>${tagCheckResult.message}</phrase></cell>
         </row>
     </table>
+    </#if>
 
+    <#if report.isSectionEnabled('tags-summary')>
     <h head-level="2" style="bold" space-before="20">Tags Summary</h>
 
-    <#if tagsSummary?size &gt; 0>
-    <table columns="2" colwidths="50;50"  width="100" id="tags-summary-table">
+    <#if tagsStats?size &gt; 0>
+    <table columns="8" colwidths="30;10;10;10;10;10;10;10"  width="100" id="tags-summary-table">
         <row header="true">
             <cell border-width="${defaultTableBorderSize}"><phrase>Tag</phrase></cell>
             <cell border-width="${defaultTableBorderSize}"><phrase>Tests</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Total (s)</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Mean (s)</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>P50 (s)</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>P90 (s)</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>P99 (s)</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Max (s)</phrase></cell>
         </row>
-        <#list tagsSummary?keys as currentTag >
+        <#list tagsStats?keys as currentTag >
+        <#assign currentStats=tagsStats[currentTag]/>
         <row>
             <cell border-width="${defaultTableBorderSize}"><phrase>${currentTag}</phrase></cell>
-            <cell border-width="${defaultTableBorderSize}"><phrase>${tagsSummary[currentTag]?size}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.total}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.totalTime?string('0.000')}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.meanTime?string('0.000')}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.p50Time?string('0.000')}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.p90Time?string('0.000')}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.p99Time?string('0.000')}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentStats.maxTime?string('0.000')}</phrase></cell>
+        </row>
+        </#list>
+    </table>
+    </#if>
+    </#if>
+
+    <#if report.isSectionEnabled('slowest-tests') && report.options.slowestTests &gt; 0>
+    <h head-level="2" style="bold" space-before="20">Slowest Tests</h>
+
+    <#if report.slowestTests?size &gt; 0>
+    <table columns="2" colwidths="85;15"  width="100" id="slowest-tests-table">
+        <row header="true">
+            <cell border-width="${defaultTableBorderSize}"><phrase>Test</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Time</phrase></cell>
+        </row>
+        <#list report.slowestTests as currentTest>
+        <row>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.className}&#8203;#${currentTest.methodName}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.time}s</phrase></cell>
+        </row>
+        </#list>
+    </table>
+    </#if>
+
+    <#if report.slowestTestsByTag?size &gt; 0>
+    <h head-level="2" style="bold" space-before="20">Slowest Tests by Tag</h>
+
+    <table columns="3" colwidths="20;65;15"  width="100" id="slowest-tests-by-tag-table">
+        <row header="true">
+            <cell border-width="${defaultTableBorderSize}"><phrase>Tag</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Test</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>Time</phrase></cell>
+        </row>
+        <#list report.slowestTestsByTag?keys as currentTag>
+        <#list report.slowestTestsByTag[currentTag] as currentTest>
+        <row>
+            <cell border-width="${defaultTableBorderSize}"><phrase class="tag">${currentTag}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.className}&#8203;#${currentTest.methodName}</phrase></cell>
+            <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.time}s</phrase></cell>
         </row>
         </#list>
+        </#list>
     </table>
     </#if>
+    </#if>
 
+    <#if report.isSectionEnabled('all-tests')>
     <h head-level="2" style="bold" space-before="20">All Executed Tests</h>
 
-    <#if testTagMap?size &gt; 0>
+    <#if testTable.size() &gt; 0>
     <table columns="4" colwidths="15;55;15;15"  width="100" id="all-tests-table">
         <row header="true">
             <cell border-width="${defaultTableBorderSize}"><phrase>Status</phrase></cell>
@@ -98,18 +156,20 @@
             <cell border-width="${defaultTableBorderSize}"><phrase>Tags</phrase></cell>
             <cell border-width="${defaultTableBorderSize}"><phrase>Time</phrase></cell>
         </row>
-        <#list testTagMap?keys as currentTest>
+        <#list 0..<testTable.size() as currentRow>
+            <#assign currentTest=testTable.getTest(currentRow)/>
             <#assign currentClassName><#if currentTest.failed>class="fail"<#elseif currentTest.error>class="error"<#else>class="pass"</#if></#assign>
             <#assign currentStatusIcon><#if currentTest.failed>❌<#elseif currentTest.error>⚠️<#elseif currentTest.skipped>⊘<#else>✅</#if></#assign>
             <row>
                 <cell border-width="${defaultTableBorderSize}" ${currentClassName}><phrase<#if docType == 'pdf'> font-name="Symbola"</#if>>${currentStatusIcon}</phrase></cell>
                 <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.className}&#8203;#${currentTest.methodName}</phrase></cell>
-                <cell border-width="${defaultTableBorderSize}"><#list currentTest.tags as currentTag><phrase class="tag">${currentTag}</phrase></#list></cell>
+                <cell border-width="${defaultTableBorderSize}"><#list testTable.getTags(currentRow) as currentTag><phrase class="tag">${currentTag}</phrase></#list></cell>
                 <cell border-width="${defaultTableBorderSize}"><phrase>${currentTest.time}s</phrase></cell>
             </row>
         </#list>
     </table>
     </#if>
+    </#if>
 
     </body>
 
@@ -0,0 +1,127 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.facade.ReportMergeFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagReportFacade;
+import org.fugerit.java.junit5.tag.check.model.BinaryReport;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.SlowestTests;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<ExecutedTest, Set<String>> sample() {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        testTagMap.put(ExecutedTest.of("acme.ATest", "test1", false, false, false, "0.150"), new LinkedHashSet<>(Arrays.asList("fast")));
+        testTagMap.put(ExecutedTest.of("acme.ATest", "test2", true, false, false, "1"), Collections.emptySet());
+        testTagMap.put(ExecutedTest.of("acme.BTest", "test1", false, true, false, "0.000123"), new LinkedHashSet<>(Arrays.asList("fast", "slow")));
+        // more than 64 tags, the tag bitset of each record takes more words
+        for (int k = 0; k < 70; k++) {
+            testTagMap.put(ExecutedTest.of("acme.CTest", "test" + k, false, false, k % 2 == 0, "0.01"), Collections.singleton("tag" + k));
+        }
+        return testTagMap;
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = sample();
+        File reportFile = tempDir.resolve("report.bin").toFile();
+        TagReportFacade.generateReport("binary", reportFile, testTagMap, null, new ReportOptions());
+        assertTrue(BinaryReport.isBinaryReport(reportFile));
+
+        BinaryReport report = BinaryReport.open(reportFile);
+        assertEquals(73, report.size());
+        assertEquals(72, report.getTags().size());
+        assertEquals(1, report.getSkipped());
+        assertEquals(1, report.getFailed());
+        assertEquals(35, report.getErrors());
+        assertEquals(1, report.getWithoutTags());
+        assertEquals(2, report.getTagStats("fast").getTotal());
+        assertEquals(1, report.getTagStats("fast").getFailed());
+        assertEquals(0, report.getTagStats("not-found").getTotal());
+        // tag stats in tag id order, counters only
+        Map<String, TestStats> tagStats = report.getTagStats();
+        assertEquals(report.getTags(), new ArrayList<>(tagStats.keySet()));
+        assertEquals(2, tagStats.get("fast").getTotal());
+        assertEquals(1, tagStats.get("tag9").getTotal());
+        assertEquals(0, tagStats.get("fast").getDurations().getCount());
+        // records are sorted by class and method name
+        assertEquals(Collections.singleton("tag9"), report.getTags(72));
+
+        List<Map.Entry<ExecutedTest, Set<String>>> entries = new ArrayList<>(testTagMap.entrySet());
+        entries.sort(Map.Entry.comparingByKey(ExecutedTest.NAME_ORDER));
+        int row = 0;
+        for (Map.Entry<ExecutedTest, Set<String>> entry : entries) {
+            ExecutedTest expected = entry.getKey();
+            ExecutedTest actual = report.getTest(row);
+            assertEquals(expected.getClassName(), actual.getClassName());
+            assertEquals(expected.getMethodName(), actual.getMethodName());
+            assertEquals(expected.getTime(), actual.getTime());
+            assertEquals(expected.getFlags(), actual.getFlags());
+            assertEquals(entry.getValue(), report.getTags(row));
+            row++;
+        }
+        assertEquals(new BigDecimal("0.000123"), report.getTest(2).getTime());
+        assertThrows(IndexOutOfBoundsException.class, () -> report.getTest(73));
+
+        // slowest tests selected from the records, same as the report helper
+        ReportOptions options = new ReportOptions();
+        options.setSlowestTests(10);
+        ReportHelper helper = new ReportHelper(testTagMap, null, options);
+        assertEquals(names(helper.getSlowestTests()), names(report.getSlowestTests(10)));
+        for (Map.Entry<String, List<ExecutedTest>> entry : report.getSlowestTestsByTag(2).entrySet()) {
+            assertEquals(names(SlowestTests.select(helper.getTagsToTests().get(entry.getKey()), 2)), names(entry.getValue()));
+        }
+        assertTrue(report.getSlowestTests(0).isEmpty());
+    }
+
+    private static List<String> names(List<ExecutedTest> tests) {
+        List<String> names = new ArrayList<>();
+        for (ExecutedTest test : tests) {
+            names.add(test.getClassName() + "#" + test.getMethodName());
+        }
+        return names;
+    }
+
+    @Test
+    void testNotBinaryReport() throws IOException {
+        File textFile = tempDir.resolve("report.txt").toFile();
+        Files.write(textFile.toPath(), "not a binary report".getBytes());
+        assertFalse(BinaryReport.isBinaryReport(textFile));
+        assertThrows(IOException.class, () -> BinaryReport.wrap(ByteBuffer.wrap(Files.readAllBytes(textFile.toPath()))));
+    }
+
+    @Test
+    void testMergeBinaryAndJson() throws IOException {
+        Map<ExecutedTest, Set<String>> shard1 = new LinkedHashMap<>();
+        shard1.put(ExecutedTest.of("acme.ATest", "test1", false, false, false, "0.1"), Collections.singleton("contract"));
+        Map<ExecutedTest, Set<String>> shard2 = new LinkedHashMap<>();
+        shard2.put(ExecutedTest.of("acme.BTest", "test1", false, false, false, "0.2"), Collections.singleton("fast"));
+        File binaryShard = tempDir.resolve("shard-1.bin").toFile();
+        File jsonShard = tempDir.resolve("shard-2.json").toFile();
+        TagReportFacade.generateReport("binary", binaryShard, shard1, null, new ReportOptions());
+        TagReportFacade.generateReport("json", jsonShard, shard2, null, new ReportOptions());
+        Map<ExecutedTest, Set<String>> merged = ReportMergeFacade.merge(Arrays.asList(jsonShard, binaryShard), false);
+        List<String> classes = new ArrayList<>();
+        merged.keySet().forEach(test -> classes.add(test.getClassName()));
+        assertEquals(Arrays.asList("acme.ATest", "acme.BTest"), classes);
+        assertEquals(Collections.singleton("contract"), merged.values().iterator().next());
+    }
+
+}
@@ -0,0 +1,180 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutedTestTagAggregateMojoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutedTestTagAggregateMojo mojo;
+
+    private File outputFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<MavenProject> reactorProjects = new ArrayList<>();
+        // parent pom, no test results
+        MavenProject parent = newProject("parent");
+        reactorProjects.add(parent);
+        // module with a tagged test (tag 'helper' on ExecutedTestTagReporterMojoTest.testHelperMethods)
+        MavenProject moduleA = newProject("module-a");
+        createSurefireReport(moduleA, "TEST-ModuleA.xml", ExecutedTestTagReporterMojoTest.class.getName(),
+                Arrays.asList("testHelperMethods", "testExecuteWithNoReports"));
+        reactorProjects.add(moduleA);
+        // module without tagged tests
+        MavenProject moduleB = newProject("module-b");
+        createSurefireReport(moduleB, "TEST-ModuleB.xml", "com.example.ModuleBTest",
+                Arrays.asList("testB1", "testB2", "testB3"));
+        reactorProjects.add(moduleB);
+
+        outputFile = tempDir.resolve("parent/target/executed-test-tag-aggregate-report.txt").toFile();
+
+        mojo = new ExecutedTestTagAggregateMojo();
+        mojo.project = parent;
+        mojo.reactorProjects = reactorProjects;
+        mojo.surefireReportsPath = "surefire-reports";
+        mojo.capturePath = "junit5-tag-check/capture";
+        mojo.outputFile = outputFile;
+        mojo.format = "text";
+        mojo.tagSource = "surefire";
+        mojo.scanMode = "reflection";
+        mojo.aggregateThreads = 2;
+    }
+
+    @Test
+    void testAggregateReport() throws Exception {
+        // Given: a tag required in at least one module
+        mojo.requiredTags = Arrays.asList("helper");
+        mojo.failOnMissingTag = true;
+
+        // When: execute
+        mojo.execute();
+
+        // Then: a single report for all the modules, in reactor order
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("Total Tests:    5"));
+        assertTrue(content.contains("helper"));
+        assertTrue(content.indexOf("testHelperMethods") < content.indexOf("testB1"));
+    }
+
+    @Test
+    void testAggregateMissingTag() {
+        // Given: a tag not found in any module
+        mojo.requiredTags = Arrays.asList("contract");
+        mojo.failOnMissingTag = true;
+
+        // When/Then: the build fails once for the whole reactor
+        assertThrows(MojoExecutionException.class, () -> mojo.execute());
+        assertTrue(outputFile.exists());
+    }
+
+    @Test
+    void testAggregateSameAsSequential() throws Exception {
+        mojo.execute();
+        String parallel = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        mojo.aggregateThreads = 1;
+        mojo.execute();
+        String sequential = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void testStaleCaptureIgnored() throws Exception {
+        // Given: capture files of an older run (capture then disabled) next to newer Surefire reports
+        mojo.tagSource = "auto";
+        mojo.aggregateThreads = 1;
+        File moduleB = tempDir.resolve("module-b/target").toFile();
+        File captureFile = createCapture(moduleB, "com.example.ModuleBTest", Arrays.asList("testB1", "testB2", "testB3", "testStale"));
+        long reportTime = new File(moduleB, "surefire-reports/TEST-ModuleB.xml").lastModified();
+        assertTrue(captureFile.setLastModified(reportTime - 60000L));
+
+        // When: execute
+        mojo.execute();
+
+        // Then: the Surefire reports are used
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("Total Tests:    5"));
+        assertFalse(content.contains("testStale"));
+        assertFalse(content.contains("captured"));
+    }
+
+    @Test
+    void testCaptureUsedOrIncomplete() throws Exception {
+        mojo.tagSource = "auto";
+        mojo.aggregateThreads = 1;
+        File moduleB = tempDir.resolve("module-b/target").toFile();
+        // capture files of the last run are used
+        File captureFile = createCapture(moduleB, "com.example.ModuleBTest", Arrays.asList("testB1", "testB2", "testB3"));
+        mojo.execute();
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("Total Tests:    5"));
+        assertTrue(content.contains("captured"));
+        // captured tests fewer than the tests in the Surefire reports (for instance capture files deleted by another fork)
+        assertTrue(captureFile.delete());
+        createCapture(moduleB, "com.example.ModuleBTest", Collections.singletonList("testB1"));
+        mojo.execute();
+        content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("Total Tests:    5"));
+        assertFalse(content.contains("captured"));
+    }
+
+    private File createCapture(File buildDirectory, String className, List<String> methods) throws IOException {
+        File captureDir = new File(buildDirectory, "junit5-tag-check/capture");
+        captureDir.mkdirs();
+        Writer writer = new StringWriter();
+        TagCapture.writeHeader(writer);
+        for (String method : methods) {
+            TagCapture.writeLine(writer, "[class:" + className + "]/[method:" + method + "()]", className, method,
+                    TagCapture.STATUS_PASSED, 10000L, Collections.singletonList("captured"));
+        }
+        File captureFile = new File(captureDir, "capture-" + methods.size() + TagCapture.FILE_SUFFIX);
+        Files.write(captureFile.toPath(), writer.toString().getBytes(StandardCharsets.UTF_8));
+        return captureFile;
+    }
+
+    private MavenProject newProject(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setArtifactId(artifactId);
+        File baseDir = tempDir.resolve(artifactId).toFile();
+        Build build = new Build();
+        build.setDirectory(new File(baseDir, "target").getAbsolutePath());
+        build.setTestOutputDirectory(new File(baseDir, "target/test-classes").getAbsolutePath());
+        project.setBuild(build);
+        return project;
+    }
+
+    private void createSurefireReport(MavenProject project, String fileName, String className, List<String> methods) throws IOException {
+        File surefireReportsDir = new File(project.getBuild().getDirectory(), "surefire-reports");
+        surefireReportsDir.mkdirs();
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<testsuite name=\"").append(className).append("\" tests=\"").append(methods.size()).append("\">\n");
+        for (String method : methods) {
+            xml.append("  <testcase name=\"").append(method).append("\" classname=\"").append(className).append("\" time=\"0.010\"/>\n");
+        }
+        xml.append("</testsuite>\n");
+        Files.write(new File(surefireReportsDir, fileName).toPath(), xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
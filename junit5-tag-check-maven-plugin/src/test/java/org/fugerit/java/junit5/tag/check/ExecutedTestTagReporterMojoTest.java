@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Build;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
+import org.fugerit.java.junit5.tag.check.model.ReportOutput;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Tag;
@@ -14,6 +15,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -97,6 +99,55 @@ class ExecutedTestTagReporterMojoTest {
         assertTrue(content.contains("PDF"));
     }
 
+    @Test
+    void testXlsxStreamReport() throws Exception {
+        // Given: streaming xlsx format
+        setField(mojo, "format", "xlsx-stream");
+        outputFile = tempDir.resolve("test-tag-report.xlsx").toFile();
+        setField(mojo, "outputFile", outputFile);
+
+        createSampleSurefireReport("TEST-XlsxStreamTest.xml",
+                "com.example.XlsxStreamTest",
+                Arrays.asList(
+                        new TestCase("testMethodA", "0.111", false, false, false),
+                        new TestCase("testMethodB", "0.222", false, true, false),
+                        new TestCase("testMethodC", "0.333", false, false, true)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: a xlsx (zip) file is created
+        assertTrue(outputFile.exists());
+        byte[] content = Files.readAllBytes(outputFile.toPath());
+        assertEquals('P', content[0]);
+        assertEquals('K', content[1]);
+    }
+
+    @Test
+    void testHtmlPagedReport() throws Exception {
+        // Given: paged html format
+        setField(mojo, "format", "html-paged");
+        outputFile = tempDir.resolve("test-tag-report-paged.html").toFile();
+        setField(mojo, "outputFile", outputFile);
+
+        createSampleSurefireReport("TEST-HtmlPagedTest.xml",
+                "com.example.HtmlPagedTest",
+                Arrays.asList(
+                        new TestCase("testMethodA", "0.111", false, false, false),
+                        new TestCase("testMethodB", "0.222", false, true, false)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: summary tables and tests data island
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("<tr><td>Total Tests</td><td>2</td></tr>"));
+        assertTrue(content.contains("<script type=\"application/json\" id=\"tests-data\">{\"classes\":[\"com.example.HtmlPagedTest\"],\"tags\":[],\"tests\":[[0,\"testMethodA\",0,0.111,[]],[0,\"testMethodB\",1,0.222,[]]]}</script>"));
+    }
 
     @Test
     void testExecuteGeneratesTextReport() throws Exception {
@@ -121,6 +172,27 @@ class ExecutedTestTagReporterMojoTest {
         assertTrue(content.contains("Total Tests:"));
     }
 
+    @Test
+    void testExecuteWithUnwritableParseCache() throws Exception {
+        // Given: a parse cache file whose parent is a regular file
+        File notADirectory = tempDir.resolve("not-a-directory").toFile();
+        assertTrue(notADirectory.createNewFile());
+        setField(mojo, "parseCache", true);
+        setField(mojo, "parseCacheFile", new File(notADirectory, "surefire-parse-cache.json"));
+        createSampleSurefireReport("TEST-SampleTest.xml",
+                "com.example.SampleTest",
+                Arrays.asList(
+                        new TestCase("testMethod1", "0.123", false, false, false)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: the cache is not written, but the report is
+        assertTrue(outputFile.exists());
+    }
+
     @Test
     void testExecuteGeneratesJsonReport() throws Exception {
         // Given: JSON format
@@ -458,6 +530,34 @@ class ExecutedTestTagReporterMojoTest {
         assertTrue(testCount >= 2);
     }
 
+    @Test
+    void testJsonReportPrettyPrint() throws Exception {
+        // Given: JSON format
+        setField(mojo, "format", "json");
+        outputFile = tempDir.resolve("report-pretty.json").toFile();
+        setField(mojo, "outputFile", outputFile);
+
+        createSampleSurefireReport("TEST-JsonPrettyTest.xml",
+                "com.example.JsonPrettyTest",
+                Arrays.asList(
+                        new TestCase("test1", "0.123", false, false, false)
+                )
+        );
+
+        // When: execute (compact and pretty)
+        setField(mojo, "prettyPrint", false);
+        mojo.execute();
+        String compact = new String(Files.readAllBytes(outputFile.toPath()));
+        setField(mojo, "prettyPrint", true);
+        mojo.execute();
+        String pretty = new String(Files.readAllBytes(outputFile.toPath()));
+
+        // Then: same content, different layout
+        assertTrue(compact.startsWith("{\"executedTests\":[{\"class\":\"com.example.JsonPrettyTest\""));
+        assertTrue(pretty.contains("\"executedTests\" : [ {"));
+        assertEquals(compact, pretty.replaceAll("\\s+", ""));
+    }
+
     @Test
     void testXmlReportStructure() throws Exception {
         // Given: XML format
@@ -487,6 +587,188 @@ class ExecutedTestTagReporterMojoTest {
         assertTrue(content.contains("method="));
     }
 
+    @Test
+    void testXmlReportPrettyPrint() throws Exception {
+        // Given: XML format
+        setField(mojo, "format", "xml");
+        outputFile = tempDir.resolve("report-pretty.xml").toFile();
+        setField(mojo, "outputFile", outputFile);
+
+        createSampleSurefireReport("TEST-XmlPrettyTest.xml",
+                "com.example.XmlPrettyTest",
+                Arrays.asList(
+                        new TestCase("test1", "0.123", false, true, false)
+                )
+        );
+
+        // When: execute (compact and pretty)
+        setField(mojo, "prettyPrint", false);
+        mojo.execute();
+        String compact = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        setField(mojo, "prettyPrint", true);
+        mojo.execute();
+        String pretty = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+
+        // Then: attributes in alphabetical order, test without tags as empty element
+        String test = "<test class=\"com.example.XmlPrettyTest\" error=\"false\" failed=\"true\" method=\"test1\" skipped=\"false\" time=\"0.123\"/>";
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<executedTestTagReport>" + test + "</executedTestTagReport>", compact);
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<executedTestTagReport>\n  " + test + "\n</executedTestTagReport>\n", pretty);
+    }
+
+    @Test
+    void testSectionsAndMaxTestsPerTag() throws Exception {
+        // Given: only summary sections
+        setField(mojo, "sections", Arrays.asList("summary", "tags-summary"));
+        setField(mojo, "maxTestsPerTag", 1);
+
+        createSampleSurefireReport("TEST-SectionsTest.xml",
+                "com.example.SectionsTest",
+                Arrays.asList(
+                        new TestCase("test1", "0.123", false, false, false)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: only the selected sections are rendered
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("EXECUTION SUMMARY:"));
+        assertTrue(content.contains("SUMMARY BY TAG:"));
+        assertFalse(content.contains("EXECUTED TESTS BY TAG:"));
+        assertFalse(content.contains("ALL EXECUTED TESTS WITH TAGS:"));
+    }
+
+    @Test
+    void testSlowestTests() throws Exception {
+        // Given: the 2 slowest tests
+        setField(mojo, "slowestTests", 2);
+
+        createSampleSurefireReport("TEST-SlowestTest.xml",
+                "com.example.SlowestTest",
+                Arrays.asList(
+                        new TestCase("fastTest", "0.010", false, false, false),
+                        new TestCase("slowTest", "1.500", false, false, false),
+                        new TestCase("mediumTest", "0.700", false, false, false)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: slowest first, the fastest test is not listed
+        String content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("SLOWEST TESTS (top 2):"));
+        int slowest = content.indexOf("com.example.SlowestTest#slowTest", content.indexOf("SLOWEST TESTS"));
+        int medium = content.indexOf("com.example.SlowestTest#mediumTest", content.indexOf("SLOWEST TESTS"));
+        assertTrue(slowest > 0 && slowest < medium);
+        assertTrue(content.indexOf("com.example.SlowestTest#fastTest") > content.indexOf("ALL EXECUTED TESTS WITH TAGS:"));
+
+        // section not selected
+        setField(mojo, "sections", Arrays.asList("summary", "all-tests"));
+        mojo.execute();
+        content = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertFalse(content.contains("SLOWEST TESTS"));
+    }
+
+    @Test
+    void testUnknownSection() {
+        // Given: an unknown section
+        setField(mojo, "sections", Arrays.asList("unknown"));
+
+        // When / Then: execution fails
+        assertThrows(MojoExecutionException.class, () -> mojo.execute());
+    }
+
+    @Test
+    void testUpToDateCheck() throws Exception {
+        // Given: up to date check and a missing required tag
+        setField(mojo, "upToDateCheck", true);
+        setField(mojo, "requiredTags", Arrays.asList("security"));
+        createSampleSurefireReport("TEST-UpToDateTest.xml",
+                "com.example.UpToDateTest",
+                Arrays.asList(
+                        new TestCase("test1", "0.123", false, false, false)
+                )
+        );
+        mojo.execute();
+        File fingerprintFile = new File(outputFile.getPath() + ".fingerprint");
+        assertTrue(fingerprintFile.exists());
+
+        // When: execute again with the same inputs
+        String report = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        long reportLastModified = outputFile.lastModified();
+        mojo.execute();
+
+        // Then: the report is not generated again
+        assertEquals(reportLastModified, outputFile.lastModified());
+        assertEquals(report, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+
+        // And: the required tags are still checked
+        setField(mojo, "failOnMissingTag", true);
+        assertThrows(MojoExecutionException.class, () -> mojo.execute());
+        assertEquals(reportLastModified, outputFile.lastModified());
+
+        // When: the report is changed after the generation (edited, truncated or partially written)
+        setField(mojo, "failOnMissingTag", false);
+        Files.write(outputFile.toPath(), "previous".getBytes(StandardCharsets.UTF_8));
+        mojo.execute();
+
+        // Then: the report is generated again
+        assertEquals(report, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+
+        // When: a new Surefire report is added
+        createSampleSurefireReport("TEST-UpToDateTest2.xml",
+                "com.example.UpToDateTest2",
+                Arrays.asList(
+                        new TestCase("test2", "0.456", false, false, false)
+                )
+        );
+        mojo.execute();
+
+        // Then: the report is generated again
+        assertTrue(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).contains("Total Tests:    2"));
+    }
+
+    @Test
+    void testMultipleOutputs() throws Exception {
+        // Given: three outputs in a single run
+        File jsonFile = tempDir.resolve("multi/report.json").toFile();
+        File xmlFile = tempDir.resolve("multi/report.xml").toFile();
+        File textFile = tempDir.resolve("multi/report.txt").toFile();
+        setField(mojo, "outputs", Arrays.asList(
+                new ReportOutput("json", jsonFile),
+                new ReportOutput("xml", xmlFile),
+                new ReportOutput("text", textFile)
+        ));
+
+        createSampleSurefireReport("TEST-MultiTest.xml",
+                "com.example.MultiTest",
+                Arrays.asList(
+                        new TestCase("test1", "0.123", false, false, false),
+                        new TestCase("test2", "0.456", false, true, false)
+                )
+        );
+
+        // When: execute
+        mojo.execute();
+
+        // Then: all the reports are generated, 'outputFile' is ignored
+        assertFalse(outputFile.exists());
+        assertTrue(new String(Files.readAllBytes(jsonFile.toPath())).contains("\"executedTests\""));
+        assertTrue(new String(Files.readAllBytes(xmlFile.toPath())).contains("<executedTestTagReport>"));
+        assertTrue(new String(Files.readAllBytes(textFile.toPath()), StandardCharsets.UTF_8).contains("Total Tests:    2"));
+    }
+
+    @Test
+    void testMultipleOutputsMissingFile() {
+        // Given: an output without file
+        setField(mojo, "outputs", Arrays.asList(new ReportOutput("json", null)));
+
+        // When / Then: execution fails
+        assertThrows(MojoExecutionException.class, () -> mojo.execute());
+    }
+
     // Helper methods
 
     private void createSampleSurefireReport(String filename, String className,
@@ -0,0 +1,77 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.facade.ReportFingerprint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class ReportFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String classpathHash(List<String> elements) throws IOException {
+        return new ReportFingerprint().addClasspath( "testClasspath", elements ).getHash();
+    }
+
+    @Test
+    void testClasspathJarRebuilt() throws IOException {
+        File jar = tempDir.resolve( "dependency-1.0.0-SNAPSHOT.jar" ).toFile();
+        Files.write( jar.toPath(), new byte[] { 1, 2, 3 } );
+        List<String> classpath = Arrays.asList( jar.getAbsolutePath(), tempDir.resolve( "missing.jar" ).toString() );
+        String hash = classpathHash( classpath );
+        Assertions.assertEquals( hash, classpathHash( classpath ) );
+        // same path, rebuilt jar
+        Files.write( jar.toPath(), new byte[] { 1, 2, 3, 4 } );
+        Assertions.assertNotEquals( hash, classpathHash( classpath ) );
+        String rebuiltHash = classpathHash( classpath );
+        Assertions.assertTrue( jar.setLastModified( jar.lastModified() - 60000L ) );
+        Assertions.assertNotEquals( rebuiltHash, classpathHash( classpath ) );
+    }
+
+    @Test
+    void testClasspathDirectory() throws IOException {
+        File classes = tempDir.resolve( "classes" ).toFile();
+        Assertions.assertTrue( classes.mkdirs() );
+        List<String> classpath = Arrays.asList( classes.getAbsolutePath() );
+        String hash = classpathHash( classpath );
+        Files.write( new File( classes, "Test.class" ).toPath(), new byte[] { 1 } );
+        Assertions.assertNotEquals( hash, classpathHash( classpath ) );
+    }
+
+    @Test
+    void testCodeSource() throws IOException {
+        // the plugin classes (directory or jar) are part of the fingerprint
+        String hash = new ReportFingerprint().addCodeSource( "plugin", ReportFingerprint.class ).getHash();
+        Assertions.assertEquals( hash, new ReportFingerprint().addCodeSource( "plugin", ReportFingerprint.class ).getHash() );
+        Assertions.assertNotEquals( hash, new ReportFingerprint().addCodeSource( "plugin", String.class ).getHash() );
+    }
+
+    @Test
+    void testOutputChanged() throws IOException {
+        File report = tempDir.resolve( "report.txt" ).toFile();
+        Files.write( report.toPath(), new byte[] { 1, 2, 3 } );
+        File fingerprintFile = ReportFingerprint.getFingerprintFile( report );
+        List<File> outputFiles = Collections.singletonList( report );
+        String hash = new ReportFingerprint().addValue( "format", "txt" ).getHash();
+        ReportFingerprint.write( fingerprintFile, hash, Arrays.asList( "fast", "security" ), outputFiles );
+        Assertions.assertEquals( Arrays.asList( "fast", "security" ), new ArrayList<>( ReportFingerprint.readFoundTags( fingerprintFile, hash, outputFiles ) ) );
+        Assertions.assertNull( ReportFingerprint.readFoundTags( fingerprintFile, "other", outputFiles ) );
+        // report truncated
+        Files.write( report.toPath(), new byte[] { 1 } );
+        Assertions.assertNull( ReportFingerprint.readFoundTags( fingerprintFile, hash, outputFiles ) );
+        // report missing
+        Assertions.assertTrue( report.delete() );
+        Assertions.assertNull( ReportFingerprint.readFoundTags( fingerprintFile, hash, outputFiles ) );
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.fugerit.java.junit5.tag.check;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.fugerit.java.junit5.tag.check.facade.JsonReportWriter;
+import org.fugerit.java.junit5.tag.check.facade.ReportMergeFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportMergeFacadeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<ExecutedTest, Set<String>> shard(Object... testAndTags) {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        for (int k = 0; k < testAndTags.length; k += 2) {
+            String[] name = testAndTags[k].toString().split("#");
+            testTagMap.put(ExecutedTest.of(name[0], name[1], false, false, false, "0.150"),
+                    new LinkedHashSet<>(Arrays.asList((String[]) testAndTags[k + 1])));
+        }
+        return testTagMap;
+    }
+
+    private File writeShard(String name, Map<ExecutedTest, Set<String>> testTagMap) throws IOException {
+        File shardFile = tempDir.resolve("shards").resolve(name).toFile();
+        shardFile.getParentFile().mkdirs();
+        JsonReportWriter.write(shardFile, testTagMap, false);
+        return shardFile;
+    }
+
+    private List<File> writeShards() throws IOException {
+        return Arrays.asList(
+                writeShard("shard-1.json", shard("com.example.ATest#test1", new String[]{"fast"},
+                        "com.example.CTest#test1", new String[]{})),
+                writeShard("shard-2.json", shard("com.example.BTest#test1", new String[]{"contract"},
+                        "com.example.DTest#test1", new String[]{"fast", "slow"})),
+                writeShard("shard-3.json", shard()));
+    }
+
+    @Test
+    void testMergeOrder() throws IOException {
+        List<String> merged = new ArrayList<>();
+        int count = ReportMergeFacade.merge(writeShards(), false,
+                (test, tags) -> merged.add(test.getClassName() + "#" + test.getMethodName() + tags));
+        assertEquals(4, count);
+        assertEquals(Arrays.asList("com.example.ATest#test1[fast]", "com.example.BTest#test1[contract]",
+                "com.example.CTest#test1[]", "com.example.DTest#test1[fast, slow]"), merged);
+    }
+
+    @Test
+    void testShardWrittenSorted() throws IOException {
+        File shardFile = writeShard("unordered.json", shard("com.example.BTest#test2", new String[]{"fast"},
+                "com.example.BTest#test1", new String[]{},
+                "com.example.ATest#test1", new String[]{"slow"}));
+        List<String> merged = new ArrayList<>();
+        ReportMergeFacade.merge(Collections.singletonList(shardFile), false,
+                (test, tags) -> merged.add(test.getClassName() + "#" + test.getMethodName()));
+        assertEquals(Arrays.asList("com.example.ATest#test1", "com.example.BTest#test1", "com.example.BTest#test2"), merged);
+    }
+
+    @Test
+    void testMergeNotSortedShard() throws IOException {
+        // partial report not sorted (not written by JsonReportWriter)
+        File unsortedShard = tempDir.resolve("unsorted.json").toFile();
+        Files.write(unsortedShard.toPath(), ("{ \"executedTests\" : [ "
+                + "{ \"class\" : \"com.example.CTest\", \"method\" : \"test1\", \"time\" : 0.1 }, "
+                + "{ \"class\" : \"com.example.ATest\", \"method\" : \"test1\", \"time\" : 0.1 } ] }").getBytes(StandardCharsets.UTF_8));
+        File sortedShard = writeShard("sorted.json", shard("com.example.BTest#test1", new String[]{}));
+        List<String> merged = new ArrayList<>();
+        int count = ReportMergeFacade.merge(Arrays.asList(unsortedShard, sortedShard), false,
+                (test, tags) -> merged.add(test.getClassName()));
+        // all the tests are merged, the unsorted report keeps its relative order
+        assertEquals(3, count);
+        assertEquals(Arrays.asList("com.example.BTest", "com.example.CTest", "com.example.ATest"), merged);
+    }
+
+    @Test
+    void testMergeSameAsSource() throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = ReportMergeFacade.merge(writeShards(), false);
+        ExecutedTest first = testTagMap.keySet().iterator().next();
+        assertEquals(new BigDecimal("0.150"), first.getTime());
+        // merged report written again is the same as a report written from the whole suite
+        File mergedFile = tempDir.resolve("merged.json").toFile();
+        JsonReportWriter.write(mergedFile, testTagMap, true);
+        File wholeFile = tempDir.resolve("whole.json").toFile();
+        JsonReportWriter.write(wholeFile, shard("com.example.ATest#test1", new String[]{"fast"},
+                "com.example.BTest#test1", new String[]{"contract"},
+                "com.example.CTest#test1", new String[]{},
+                "com.example.DTest#test1", new String[]{"fast", "slow"}), true);
+        assertArrayEquals(Files.readAllBytes(wholeFile.toPath()), Files.readAllBytes(mergedFile.toPath()));
+    }
+
+    @Test
+    void testReportModelSameAsJson() throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = shard("com.example.ATest#test1", new String[]{"fast"},
+                "com.example.BTest#test1", new String[]{"fast", "slow"},
+                "com.example.CTest#test1", new String[]{});
+        ReportModel model = new ReportHelper(testTagMap, null).getReportModel();
+        assertEquals(Arrays.asList("fast", "slow"), model.getExecutedTests().get(1).getTags());
+        // the model serialization has the same shape of the json report
+        File jsonFile = tempDir.resolve("model.json").toFile();
+        JsonReportWriter.write(jsonFile, testTagMap, false);
+        assertEquals(new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8),
+                new ObjectMapper().writeValueAsString(model));
+    }
+
+    @Test
+    void testMergeMojo() throws Exception {
+        List<File> shards = writeShards();
+        ExecutedTestTagMergeMojo mojo = new ExecutedTestTagMergeMojo();
+        mojo.partialReportsDirectory = tempDir.resolve("shards").toFile();
+        mojo.outputFile = tempDir.resolve("shards").resolve("executed-test-tag-merged-report.json").toFile();
+        mojo.format = "json";
+        mojo.prettyPrint = true;
+        mojo.slowestTests = 1;
+        // tags found in different shards
+        mojo.requiredTags = Arrays.asList("contract", "slow");
+        mojo.failOnMissingTag = true;
+        mojo.execute();
+        assertEquals(4, ReportMergeFacade.merge(Collections.singletonList(mojo.outputFile), false).size());
+        String merged = new String(Files.readAllBytes(mojo.outputFile.toPath()), StandardCharsets.UTF_8);
+        // stats of each tag, computed while merging
+        assertTrue(merged.matches("(?s).*\"tagsSummary\" : \\{\\s+\"fast\" : \\{\\s+\"total\" : 2,.*\"p50\" : 0\\.150,.*\"max\" : 0\\.150.*"));
+        // slowest tests selected while merging, same duration in merge order
+        assertTrue(merged.matches("(?s).*\"slowestTests\" : \\[ \\{\\s+\"class\" : \"com.example.ATest\",.*\"slowestTestsByTag\" : \\{.*\"slow\" : \\[ \\{\\s+\"class\" : \"com.example.DTest\".*"));
+
+        // the merged report in the same directory is not merged again
+        mojo.execute();
+        assertEquals(4, ReportMergeFacade.merge(Collections.singletonList(mojo.outputFile), false).size());
+
+        // other formats
+        mojo.partialReportsDirectory = null;
+        mojo.partialReports = shards;
+        mojo.format = "text";
+        mojo.outputFile = tempDir.resolve("executed-test-tag-merged-report.txt").toFile();
+        mojo.execute();
+        String content = new String(Files.readAllBytes(mojo.outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("Total Tests:    4"));
+
+        // a tag missing in all the shards
+        mojo.requiredTags = Arrays.asList("contract", "security");
+        assertThrows(MojoExecutionException.class, mojo::execute);
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.facade.ReportRendererFacade;
+import org.fugerit.java.junit5.tag.check.facade.TagReportFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.report.ReportRenderer;
+import org.fugerit.java.junit5.tag.check.report.TextReportRenderer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+class ReportRendererTest {
+
+    /**
+     * Custom renderer, registered in src/test/resources/META-INF/services
+     */
+    public static class CountReportRenderer implements ReportRenderer {
+
+        @Override
+        public Collection<String> getFormats() {
+            return Collections.singletonList( "count" );
+        }
+
+        @Override
+        public void render(String format, File outputFile, ReportHelper helper, ReportOptions options) throws IOException {
+            Files.write( outputFile.toPath(), String.valueOf( helper.getSummary().getTotal() ).getBytes( StandardCharsets.UTF_8 ) );
+        }
+
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBuiltInFormats() {
+        Assertions.assertTrue( ReportRendererFacade.getFormats().containsAll(
+                Arrays.asList( "text", "txt", "json", "xml", "html", "html-paged", "pdf", "xlsx", "xlsx-stream", "md", "adoc", "binary" ) ) );
+        // unknown formats fall back to text
+        Assertions.assertTrue( ReportRendererFacade.getRenderer( "unknown" ) instanceof TextReportRenderer );
+    }
+
+    @Test
+    void testCustomRenderer() throws IOException {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        testTagMap.put( new ExecutedTest( "acme.RendererTest", "test1", false, false, false, BigDecimal.ONE ), Collections.singleton( "fast" ) );
+        testTagMap.put( new ExecutedTest( "acme.RendererTest", "test2", false, false, false, BigDecimal.ONE ), Collections.emptySet() );
+        File outputFile = tempDir.resolve( "report.count" ).toFile();
+        TagReportFacade.generateReport( "COUNT", outputFile, testTagMap, null, new ReportOptions() );
+        Assertions.assertEquals( "2", new String( Files.readAllBytes( outputFile.toPath() ), StandardCharsets.UTF_8 ) );
+    }
+
+}
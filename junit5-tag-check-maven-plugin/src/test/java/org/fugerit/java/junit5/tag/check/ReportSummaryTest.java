@@ -0,0 +1,148 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.facade.TagCheckFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.ReportHelper;
+import org.fugerit.java.junit5.tag.check.model.ReportOptions;
+import org.fugerit.java.junit5.tag.check.model.ReportSummary;
+import org.fugerit.java.junit5.tag.check.model.SlowestTests;
+import org.fugerit.java.junit5.tag.check.model.TagDictionary;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.fugerit.java.junit5.tag.check.model.TestTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+class ReportSummaryTest {
+
+    private static ExecutedTest newTest( String methodName, boolean skipped, boolean failed, boolean error ) {
+        return new ExecutedTest( "acme.SummaryTest", methodName, skipped, failed, error, BigDecimal.ONE );
+    }
+
+    @Test
+    void testSummary() {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        testTagMap.put( newTest( "testPass", false, false, false ), new LinkedHashSet<>( Arrays.asList( "slow", "fast" ) ) );
+        testTagMap.put( newTest( "testFail", false, true, false ), Collections.singleton( "fast" ) );
+        testTagMap.put( newTest( "testError", false, false, true ), Collections.emptySet() );
+        testTagMap.put( newTest( "testSkip", true, false, false ), Collections.singleton( "security" ) );
+        ReportSummary summary = new ReportSummary( testTagMap );
+        Assertions.assertEquals( 4, summary.getTotal() );
+        Assertions.assertEquals( 2, summary.getPassed() );
+        Assertions.assertEquals( 1, summary.getFailed() );
+        Assertions.assertEquals( 1, summary.getErrors() );
+        Assertions.assertEquals( 1, summary.getSkipped() );
+        Assertions.assertEquals( 1, summary.getWithoutTags() );
+        // tags in the order they are first found
+        Assertions.assertEquals( Arrays.asList( "slow", "fast", "security" ), new ArrayList<>( summary.getFoundTags() ) );
+        Assertions.assertEquals( 2, summary.getTagStats().get( "fast" ).getTotal() );
+        Assertions.assertEquals( 1, summary.getTagStats().get( "fast" ).getFailed() );
+        Assertions.assertEquals( 2, summary.getTagToTests().get( "fast" ).size() );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> summary.getTagToTests().get( "fast" ).clear() );
+        // helper reads from the same snapshot
+        ReportHelper helper = new ReportHelper( testTagMap, Arrays.asList( "fast", "authorized" ) );
+        Assertions.assertEquals( 2, helper.getSummaryPass() );
+        Assertions.assertSame( helper.getTagsSummary(), helper.getTagsSummary() );
+        Assertions.assertFalse( helper.getTagCheckResult().isResultOk() );
+        Assertions.assertSame( helper.getTagCheckResult(), helper.getTagCheckResult() );
+    }
+
+    @Test
+    void testSlowestTests() {
+        List<ExecutedTest> tests = new ArrayList<>();
+        for ( String time : Arrays.asList( "0.5", "2.1", "0.1", "2.1", "1.7", "0.3" ) ) {
+            tests.add( new ExecutedTest( "acme.SlowTest", "test" + tests.size(), false, false, false, new BigDecimal( time ) ) );
+        }
+        List<ExecutedTest> slowest = SlowestTests.select( tests, 3 );
+        // slowest first, same duration in the original order
+        Assertions.assertEquals( Arrays.asList( tests.get( 1 ), tests.get( 3 ), tests.get( 4 ) ), slowest );
+        Assertions.assertEquals( 6, SlowestTests.select( tests, 10 ).size() );
+        Assertions.assertTrue( SlowestTests.select( tests, 0 ).isEmpty() );
+        // listed tests by tag
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        for ( ExecutedTest test : tests ) {
+            testTagMap.put( test, Collections.singleton( "slow" ) );
+        }
+        ReportOptions options = new ReportOptions();
+        options.setMaxTestsPerTag( 2 );
+        ReportHelper helper = new ReportHelper( testTagMap, null, options );
+        Assertions.assertEquals( Arrays.asList( tests.get( 1 ), tests.get( 3 ) ), helper.getListedTestsByTag().get( "slow" ) );
+        Assertions.assertEquals( 6, helper.getTagsSummary().get( "slow" ).size() );
+        // no limit, all the tests are listed
+        ReportHelper helperNoLimit = new ReportHelper( testTagMap, null );
+        Assertions.assertSame( helperNoLimit.getTagsSummary(), helperNoLimit.getListedTestsByTag() );
+    }
+
+    @Test
+    void testSlowestTestsByTag() {
+        Map<ExecutedTest, Set<String>> testTagMap = new LinkedHashMap<>();
+        List<ExecutedTest> tests = new ArrayList<>();
+        for ( String time : Arrays.asList( "0.5", "2.1", "0.1", "1.3", "1.7", "0.3" ) ) {
+            ExecutedTest test = new ExecutedTest( "acme.SlowTest", "test" + tests.size(), false, false, false, new BigDecimal( time ) );
+            tests.add( test );
+            testTagMap.put( test, tests.size() % 2 == 0 ? Collections.singleton( "even" ) : new LinkedHashSet<>( Arrays.asList( "odd", "all" ) ) );
+        }
+        ReportOptions options = new ReportOptions();
+        Assertions.assertEquals( ReportOptions.DEFAULT_SLOWEST_TESTS, options.getSlowestTests() );
+        options.setSlowestTests( 2 );
+        ReportHelper helper = new ReportHelper( testTagMap, null, options );
+        Assertions.assertEquals( Arrays.asList( tests.get( 1 ), tests.get( 4 ) ), helper.getSlowestTests() );
+        // tags in the order they are first found
+        Assertions.assertEquals( Arrays.asList( "odd", "all", "even" ), new ArrayList<>( helper.getSlowestTestsByTag().keySet() ) );
+        Assertions.assertEquals( Arrays.asList( tests.get( 4 ), tests.get( 0 ) ), helper.getSlowestTestsByTag().get( "odd" ) );
+        Assertions.assertEquals( Arrays.asList( tests.get( 1 ), tests.get( 3 ) ), helper.getSlowestTestsByTag().get( "even" ) );
+        // tests added one at a time
+        SlowestTests slowestTests = new SlowestTests( 2 );
+        tests.forEach( slowestTests::add );
+        Assertions.assertEquals( helper.getSlowestTests(), slowestTests.getTests() );
+        // disabled
+        options.setSlowestTests( 0 );
+        ReportHelper helperDisabled = new ReportHelper( testTagMap, null, options );
+        Assertions.assertTrue( helperDisabled.getSlowestTests().isEmpty() );
+        Assertions.assertTrue( helperDisabled.getSlowestTestsByTag().get( "odd" ).isEmpty() );
+    }
+
+    @Test
+    void testTestTable() {
+        TestTable table = new TestTable();
+        table.add( newTest( "testA", false, false, false ), Arrays.asList( "fast", "security" ) );
+        table.add( newTest( "testB", false, true, false ), Arrays.asList( "security", "fast" ) );
+        table.add( newTest( "testC", true, false, false ), Collections.emptyList() );
+        Assertions.assertEquals( 3, table.size() );
+        Assertions.assertEquals( 2, table.getDictionary().size() );
+        Assertions.assertEquals( TagDictionary.NOT_FOUND, table.getDictionary().lookup( "authorized" ) );
+        Assertions.assertEquals( table.getTagIds( 0 ), table.getTagIds( 1 ) );
+        Assertions.assertEquals( new LinkedHashSet<>( Arrays.asList( "fast", "security" ) ), table.getTags( 1 ) );
+        TestStats stats = table.getStats( "security" );
+        Assertions.assertEquals( 2, stats.getTotal() );
+        Assertions.assertEquals( 1, stats.getFailed() );
+        Assertions.assertEquals( 0, table.getStats( "authorized" ).getTotal() );
+        Assertions.assertEquals( 2, table.countPassed() );
+        Assertions.assertEquals( 1, table.countWithoutTags() );
+        Assertions.assertFalse( TagCheckFacade.checkHelper( Arrays.asList( "fast", "authorized" ), table ).isResultOk() );
+        // tag ids of a row, without copies
+        Assertions.assertEquals( 0, table.nextTagId( 1, 0 ) );
+        Assertions.assertEquals( 1, table.nextTagId( 1, 1 ) );
+        Assertions.assertEquals( -1, table.nextTagId( 1, 2 ) );
+        Assertions.assertFalse( table.hasTags( 2 ) );
+        // tables of more modules
+        TestTable other = new TestTable();
+        other.add( newTest( "testD", false, false, false ), Arrays.asList( "authorized", "fast" ) );
+        table.addAll( other );
+        Assertions.assertEquals( 4, table.size() );
+        Assertions.assertEquals( Arrays.asList( "fast", "security", "authorized" ), new ArrayList<>( table.getFoundTags() ) );
+        // stats of the other table merged
+        Assertions.assertEquals( 3, table.getStats( "fast" ).getTotal() );
+        Assertions.assertEquals( 3, table.getStats( "fast" ).getDurations().getCount() );
+        Assertions.assertEquals( 1, table.getStats( "authorized" ).getTotal() );
+        Assertions.assertSame( table.getStats( "fast" ), table.getStats( "fast" ) );
+        // report built on the table
+        ReportHelper helper = new ReportHelper( table, Arrays.asList( "fast", "authorized" ) );
+        Assertions.assertTrue( helper.getTagCheckResult().isResultOk() );
+        Assertions.assertEquals( 3, helper.getTagsToTests().get( "fast" ).size() );
+        Assertions.assertEquals( table.getTags( 3 ), helper.getTestTagMap().get( table.getTest( 3 ) ) );
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.core.TagCapture;
+import org.fugerit.java.junit5.tag.check.facade.TagCaptureFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+class TagCaptureFacadeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private void writeCapture( File captureFile, long lastModified, String... lines ) throws IOException {
+        try ( Writer writer = new OutputStreamWriter( new FileOutputStream( captureFile ), StandardCharsets.UTF_8 ) ) {
+            TagCapture.writeHeader( writer );
+            for ( String line : lines ) {
+                writer.write( line );
+            }
+        }
+        Assertions.assertTrue( captureFile.setLastModified( lastModified ) );
+    }
+
+    @Test
+    void testReadCapture() throws IOException {
+        File captureDirectory = tempDir.toFile();
+        StringWriter first = new StringWriter();
+        TagCapture.writeLine( first, "[method:testA()]", "acme.CaptureTest", "testA", TagCapture.STATUS_PASSED, 1500L, Arrays.asList( "fast", "security" ) );
+        TagCapture.writeLine( first, "[test-template-invocation:#1]", "acme.CaptureTest$Nested", "testB[1\tvalue]", TagCapture.STATUS_SKIPPED, 0L, Collections.singletonList( "nested" ) );
+        writeCapture( new File( captureDirectory, "capture-1" + TagCapture.FILE_SUFFIX ), 1000000L, first.toString() );
+        // newer capture of the same test, truncated last line
+        StringWriter second = new StringWriter();
+        TagCapture.writeLine( second, "[method:testA()]", "acme.CaptureTest", "testA", TagCapture.STATUS_FAILED, 2500999L, Collections.singletonList( "fast" ) );
+        writeCapture( new File( captureDirectory, "capture-2" + TagCapture.FILE_SUFFIX ), 2000000L, second.toString(), "[method:testC()]\tacme.CaptureTest\ttes" );
+        // all tests
+        Map<ExecutedTest, Set<String>> testTagMap = TagCaptureFacade.readCapture( captureDirectory, true );
+        Assertions.assertEquals( 2, testTagMap.size() );
+        Iterator<Map.Entry<ExecutedTest, Set<String>>> entries = testTagMap.entrySet().iterator();
+        Map.Entry<ExecutedTest, Set<String>> entryA = entries.next();
+        Assertions.assertEquals( "testA", entryA.getKey().getMethodName() );
+        Assertions.assertTrue( entryA.getKey().isFailed() );
+        Assertions.assertEquals( new BigDecimal( "2.501" ), entryA.getKey().getTime() );
+        Assertions.assertEquals( 2500999L, entryA.getKey().getTimeMicros() );
+        Assertions.assertEquals( Collections.singleton( "fast" ), entryA.getValue() );
+        Map.Entry<ExecutedTest, Set<String>> entryB = entries.next();
+        Assertions.assertEquals( "acme.CaptureTest$Nested", entryB.getKey().getClassName() );
+        Assertions.assertEquals( "testB[1\tvalue]", entryB.getKey().getMethodName() );
+        Assertions.assertTrue( entryB.getKey().isSkipped() );
+        Assertions.assertEquals( Collections.singleton( "nested" ), entryB.getValue() );
+        // skipped tests excluded
+        Assertions.assertEquals( 1, TagCaptureFacade.readCapture( captureDirectory, false ).size() );
+        // no capture
+        Assertions.assertNull( TagCaptureFacade.readCapture( new File( captureDirectory, "not-found" ), true ) );
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.fugerit.java.junit5.tag.check.core.TagIndex;
+import org.fugerit.java.junit5.tag.check.facade.TagScanFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+@Order( 3 )
+class TagScanFacadeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testClassNotFound() {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test = new ExecutedTest( "acme.MyClass", "myMethod", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test );
+        Map<ExecutedTest, Set<String>>  testTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Assertions.assertTrue( testTagMap.get( test ).isEmpty() );
+    }
+
+    @Test
+    void testMethodNotFound() {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test = new ExecutedTest( TagScanFacadeTest.class.getName(), "myMethod", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test );
+        Map<ExecutedTest, Set<String>>  testTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Assertions.assertTrue( testTagMap.get( test ).isEmpty() );
+    }
+
+    @Test
+    void testTagNotFound() {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test = new ExecutedTest( ExecutedTest.class.getName(), "testExtended", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test );
+        Map<ExecutedTest, Set<String>>  testTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Assertions.assertTrue( testTagMap.get( test ).isEmpty() );
+    }
+
+    @Test
+    void testClassTagFound() {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test = new ExecutedTest( ExecutedTestTagReporterMojoExtendedTest.class.getName(), "testExtended", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test );
+        Map<ExecutedTest, Set<String>>  testTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Assertions.assertFalse( testTagMap.get( test ).isEmpty() );
+    }
+
+    @Test
+    void testClassIndexedOnce() {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test1 = new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "testHelperMethods", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        ExecutedTest test2 = new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "testHelperMethods", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        ExecutedTest test3 = new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "testExecuteWithNoReports", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test1 );
+        executedTests.add( test2 );
+        executedTests.add( test3 );
+        Map<ExecutedTest, Set<String>>  testTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Assertions.assertEquals( 3, testTagMap.size() );
+        Assertions.assertTrue( testTagMap.get( test1 ).contains( "helper" ) );
+        // same method, same tags instance
+        Assertions.assertSame( testTagMap.get( test1 ), testTagMap.get( test2 ) );
+        Assertions.assertTrue( testTagMap.get( test3 ).isEmpty() );
+    }
+
+    @Test
+    void testBytecodeSameAsReflection() throws IOException {
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        executedTests.add( new ExecutedTest( ExecutedTestTagReporterMojoExtendedTest.class.getName(), "testExtended", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE ) );
+        executedTests.add( new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "testHelperMethods", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE ) );
+        executedTests.add( new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "testExecuteWithNoReports", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE ) );
+        executedTests.add( new ExecutedTest( ExecutedTestTagReporterMojoTest.class.getName(), "myMethod", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE ) );
+        executedTests.add( new ExecutedTest( "acme.MyClass", "myMethod", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE ) );
+        Map<ExecutedTest, Set<String>> reflectionTagMap = TagScanFacade.extractTagsFromExecutedTests( executedTests, Thread.currentThread().getContextClassLoader() );
+        Map<ExecutedTest, Set<String>> bytecodeTagMap = TagScanFacade.extractTagsFromClassFiles( executedTests, Arrays.asList( new File( "target/test-classes" ) ) );
+        for ( ExecutedTest test : executedTests ) {
+            Assertions.assertEquals( reflectionTagMap.get( test ), bytecodeTagMap.get( test ) );
+        }
+        Assertions.assertTrue( bytecodeTagMap.get( executedTests.get( 0 ) ).contains( "coverage" ) );
+        Assertions.assertTrue( bytecodeTagMap.get( executedTests.get( 1 ) ).contains( "helper" ) );
+    }
+
+    @Test
+    void testBytecodeUnreadableClassFile() throws IOException {
+        String className = ExecutedTestTagReporterMojoExtendedTest.class.getName();
+        String classFileName = className.replace( '.', '/' ) + ".class";
+        File brokenClasses = tempDir.resolve( "broken-classes" ).toFile();
+        File brokenClassFile = new File( brokenClasses, classFileName );
+        brokenClassFile.getParentFile().mkdirs();
+        // truncated class file
+        byte[] classFile = Files.readAllBytes( new File( "target/test-classes", classFileName ).toPath() );
+        Files.write( brokenClassFile.toPath(), Arrays.copyOf( classFile, 16 ) );
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest test = new ExecutedTest( className, "testExtended", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( test );
+        // the next classpath element is tried
+        Map<ExecutedTest, Set<String>> nextElementTagMap = TagScanFacade.extractTagsFromClassFiles( executedTests,
+                Arrays.asList( brokenClasses, new File( "target/test-classes" ) ) );
+        Assertions.assertTrue( nextElementTagMap.get( test ).contains( "coverage" ) );
+        // the class is loaded with the fallback class loader
+        Map<ExecutedTest, Set<String>> fallbackTagMap = TagScanFacade.extractTagsFromClassFiles( executedTests,
+                Arrays.asList( brokenClasses ), Thread.currentThread().getContextClassLoader() );
+        Assertions.assertTrue( fallbackTagMap.get( test ).contains( "coverage" ) );
+        Assertions.assertTrue( TagScanFacade.extractTagsFromClassFiles( executedTests, Arrays.asList( brokenClasses ) ).get( test ).isEmpty() );
+    }
+
+    @Test
+    void testTagIndex() throws IOException {
+        File testOutputDirectory = tempDir.toFile();
+        File indexFile = new File( testOutputDirectory, TagIndex.RESOURCE_PATH );
+        indexFile.getParentFile().mkdirs();
+        Map<String, List<String>> methodTags = new LinkedHashMap<>();
+        methodTags.put( "testA", Arrays.asList( "fast" ) );
+        methodTags.put( "testB", Collections.emptyList() );
+        ClassTagInfo classInfo = new ClassTagInfo( "acme.IndexedTest", null, Arrays.asList( "security" ), methodTags );
+        try ( Writer writer = new OutputStreamWriter( new FileOutputStream( indexFile ), StandardCharsets.UTF_8 ) ) {
+            TagIndex.write( writer, Collections.singletonList( classInfo ) );
+        }
+        Map<String, ClassTagInfo> tagIndex = TagScanFacade.readTagIndex( testOutputDirectory );
+        Assertions.assertNotNull( tagIndex );
+        List<ExecutedTest> executedTests = new ArrayList<>();
+        ExecutedTest testA = new ExecutedTest( "acme.IndexedTest", "testA", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        ExecutedTest testB = new ExecutedTest( "acme.IndexedTest", "testB", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        ExecutedTest testC = new ExecutedTest( "acme.NotIndexedTest", "testC", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, BigDecimal.ONE );
+        executedTests.add( testA );
+        executedTests.add( testB );
+        executedTests.add( testC );
+        Map<ExecutedTest, Set<String>> testTagMap = TagScanFacade.extractTagsFromIndex( executedTests, tagIndex, Collections.emptyList() );
+        Assertions.assertEquals( new HashSet<>( Arrays.asList( "fast", "security" ) ), testTagMap.get( testA ) );
+        Assertions.assertEquals( Collections.singleton( "security" ), testTagMap.get( testB ) );
+        Assertions.assertTrue( testTagMap.get( testC ).isEmpty() );
+        Assertions.assertNull( TagScanFacade.readTagIndex( new File( testOutputDirectory, "not-found" ) ) );
+    }
+
+}
@@ -0,0 +1,128 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.facade.SurefireParseCache;
+import org.fugerit.java.junit5.tag.check.facade.TagSurefireFacade;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+class TagSurefireFacadeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStaxSameResultAsDom() {
+        for ( String id : Arrays.asList( "sample-surefire-reports", "sample-surefire-reports-failed",
+                "sample-surefire-reports-error", "sample-surefire-reports-skipped" ) ) {
+            File surefireReportsDirectory = new File( String.format( "src/test/resources/%s", id ) );
+            List<ExecutedTest> domTests = TagSurefireFacade.parseSurefireReports( surefireReportsDirectory, true, TagSurefireFacade.PARSER_DOM );
+            List<ExecutedTest> staxTests = TagSurefireFacade.parseSurefireReports( surefireReportsDirectory, true, TagSurefireFacade.PARSER_STAX );
+            Assertions.assertFalse( staxTests.isEmpty() );
+            Assertions.assertEquals( domTests.size(), staxTests.size() );
+            for ( int k = 0; k < domTests.size(); k++ ) {
+                ExecutedTest domTest = domTests.get( k );
+                ExecutedTest staxTest = staxTests.get( k );
+                Assertions.assertEquals( domTest.getClassName(), staxTest.getClassName() );
+                Assertions.assertEquals( domTest.getMethodName(), staxTest.getMethodName() );
+                Assertions.assertEquals( domTest.getTime(), staxTest.getTime() );
+                Assertions.assertEquals( domTest.isSkipped(), staxTest.isSkipped() );
+                Assertions.assertEquals( domTest.isFailed(), staxTest.isFailed() );
+                Assertions.assertEquals( domTest.isError(), staxTest.isError() );
+            }
+        }
+    }
+
+    @Test
+    void testParallelSameOrderAsSequential() throws IOException {
+        for ( int k = 0; k < 20; k++ ) {
+            File reportFile = tempDir.resolve( String.format( "TEST-ParallelTest%s.xml", k ) ).toFile();
+            try ( FileWriter writer = new FileWriter( reportFile ) ) {
+                writer.write( String.format( "<testsuite name=\"com.example.ParallelTest%s\">%n", k ) );
+                writer.write( String.format( "  <testcase name=\"testA\" time=\"0.%s\"/>%n", k ) );
+                writer.write( String.format( "  <testcase name=\"testB\" time=\"0.%s\"><failure/></testcase>%n", k ) );
+                writer.write( "</testsuite>\n" );
+            }
+        }
+        List<ExecutedTest> sequentialTests = TagSurefireFacade.parseSurefireReports( tempDir.toFile(), true, TagSurefireFacade.PARSER_STAX, 1 );
+        List<ExecutedTest> parallelTests = TagSurefireFacade.parseSurefireReports( tempDir.toFile(), true, TagSurefireFacade.PARSER_STAX, 4 );
+        Assertions.assertEquals( 40, sequentialTests.size() );
+        Assertions.assertEquals( sequentialTests.size(), parallelTests.size() );
+        for ( int k = 0; k < sequentialTests.size(); k++ ) {
+            Assertions.assertEquals( sequentialTests.get( k ).getClassName(), parallelTests.get( k ).getClassName() );
+            Assertions.assertEquals( sequentialTests.get( k ).getMethodName(), parallelTests.get( k ).getMethodName() );
+            Assertions.assertEquals( sequentialTests.get( k ).isFailed(), parallelTests.get( k ).isFailed() );
+        }
+    }
+
+    @Test
+    void testParseCache() throws IOException {
+        File surefireReportsDirectory = new File( "src/test/resources/sample-surefire-reports" );
+        File cacheFile = tempDir.resolve( "cache/surefire-parse-cache.json" ).toFile();
+        // first run : report is parsed
+        SurefireParseCache cache = SurefireParseCache.load( cacheFile );
+        List<ExecutedTest> parsedTests = TagSurefireFacade.parseSurefireReports( surefireReportsDirectory, true, TagSurefireFacade.PARSER_STAX, 1, cache );
+        cache.save();
+        Assertions.assertEquals( 0, cache.getHits() );
+        Assertions.assertEquals( 1, cache.getMisses() );
+        Assertions.assertTrue( cacheFile.exists() );
+        // second run : report is read from cache
+        cache = SurefireParseCache.load( cacheFile );
+        List<ExecutedTest> cachedTests = TagSurefireFacade.parseSurefireReports( surefireReportsDirectory, true, TagSurefireFacade.PARSER_STAX, 1, cache );
+        Assertions.assertEquals( 1, cache.getHits() );
+        Assertions.assertEquals( 0, cache.getMisses() );
+        Assertions.assertEquals( parsedTests.size(), cachedTests.size() );
+        for ( int k = 0; k < parsedTests.size(); k++ ) {
+            Assertions.assertEquals( parsedTests.get( k ).getMethodName(), cachedTests.get( k ).getMethodName() );
+            Assertions.assertEquals( parsedTests.get( k ).getTime(), cachedTests.get( k ).getTime() );
+            Assertions.assertEquals( parsedTests.get( k ).isFailed(), cachedTests.get( k ).isFailed() );
+        }
+    }
+
+    @Test
+    void testStaxSkipsOutput() throws IOException {
+        File reportFile = tempDir.resolve( "TEST-OutputTest.xml" ).toFile();
+        try ( FileWriter writer = new FileWriter( reportFile ) ) {
+            writer.write( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" );
+            writer.write( "<testsuite name=\"com.example.OutputTest\">\n" );
+            writer.write( "  <testcase name=\"test1\" time=\"0.100\">\n" );
+            writer.write( "    <system-out><![CDATA[<testcase name=\"fake\" time=\"1\"><failure/></testcase>]]></system-out>\n" );
+            writer.write( "  </testcase>\n" );
+            writer.write( "  <testcase name=\"test2\" classname=\"com.example.OtherTest\" time=\"0.200\">\n" );
+            writer.write( "    <skipped/>\n" );
+            writer.write( "  </testcase>\n" );
+            writer.write( "  <system-err>some output</system-err>\n" );
+            writer.write( "</testsuite>\n" );
+        }
+        List<ExecutedTest> tests = TagSurefireFacade.parseSurefireReports( tempDir.toFile(), true );
+        Assertions.assertEquals( 2, tests.size() );
+        Assertions.assertEquals( "com.example.OutputTest", tests.get( 0 ).getClassName() );
+        Assertions.assertFalse( tests.get( 0 ).isFailed() );
+        Assertions.assertEquals( "com.example.OtherTest", tests.get( 1 ).getClassName() );
+        Assertions.assertTrue( tests.get( 1 ).isSkipped() );
+        Assertions.assertEquals( 1, TagSurefireFacade.parseSurefireReports( tempDir.toFile(), false ).size() );
+    }
+
+    @Test
+    void testExecutedTestTime() {
+        ExecutedTest test = ExecutedTest.of( "acme.TimeTest", "testTime", false, true, true, "0.120" );
+        Assertions.assertEquals( new BigDecimal( "0.120" ), test.getTime() );
+        Assertions.assertEquals( 120000L, test.getTimeMicros() );
+        Assertions.assertEquals( 0.12d, test.getTimeSeconds(), 0d );
+        Assertions.assertEquals( ExecutedTest.FLAG_FAILED | ExecutedTest.FLAG_ERROR, test.getFlags() );
+        Assertions.assertFalse( test.isSkipped() );
+        // not plain decimal values
+        Assertions.assertEquals( 0, new BigDecimal( "10" ).compareTo( ExecutedTest.of( "acme.TimeTest", "testTime", false, false, false, "1E+1" ).getTime() ) );
+        Assertions.assertEquals( new BigDecimal( "1.5" ), new ExecutedTest( "acme.TimeTest", "testTime", false, false, false, new BigDecimal( "1.5" ) ).getTime() );
+    }
+
+}
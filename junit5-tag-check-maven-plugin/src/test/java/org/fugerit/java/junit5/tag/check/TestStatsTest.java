@@ -0,0 +1,78 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.model.DurationSketch;
+import org.fugerit.java.junit5.tag.check.model.ExecutedTest;
+import org.fugerit.java.junit5.tag.check.model.TestStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class TestStatsTest {
+
+    @Test
+    void testStats() {
+        TestStats stats = new TestStats();
+        stats.increaseErrors();
+        stats.increaseFailed();
+        stats.increaseSkipped();
+        stats.increaseTotal();
+        stats.increaseTotal();
+        stats.increaseTotal();
+        Assertions.assertEquals( 1, stats.getErrors() );
+        Assertions.assertEquals( 1, stats.getFailed() );
+        Assertions.assertEquals( 1, stats.getSkipped() );
+        Assertions.assertEquals( 3, stats.getTotal() );
+    }
+
+    @Test
+    void testDurations() {
+        // 1 ms to 1000 ms
+        TestStats stats = new TestStats();
+        DurationSketch firstHalf = new DurationSketch();
+        DurationSketch secondHalf = new DurationSketch();
+        for ( int k = 1; k <= 1000; k++ ) {
+            stats.addDuration( k * 1000L );
+            ( k % 2 == 0 ? firstHalf : secondHalf ).add( k * 1000L );
+        }
+        DurationSketch durations = stats.getDurations();
+        Assertions.assertEquals( 1000, durations.getCount() );
+        Assertions.assertEquals( 500500000L, durations.getTotalMicros() );
+        Assertions.assertEquals( 500500L, durations.getMeanMicros() );
+        Assertions.assertEquals( 1000000L, durations.getMaxMicros() );
+        Assertions.assertEquals( 500000d, durations.getQuantileMicros( 0.5d ), 500000d * DurationSketch.RELATIVE_ACCURACY );
+        Assertions.assertEquals( 900000d, durations.getQuantileMicros( 0.9d ), 900000d * DurationSketch.RELATIVE_ACCURACY );
+        Assertions.assertEquals( 990000d, durations.getQuantileMicros( 0.99d ), 990000d * DurationSketch.RELATIVE_ACCURACY );
+        Assertions.assertEquals( new BigDecimal( "500.500" ), stats.getTotalTime() );
+        Assertions.assertEquals( new BigDecimal( "0.501" ), stats.getMeanTime() );
+        Assertions.assertEquals( new BigDecimal( "1.000" ), stats.getMaxTime() );
+        // merged sketches are the same as a single sketch
+        firstHalf.merge( secondHalf );
+        for ( double quantile : new double[] { 0d, 0.5d, 0.9d, 0.99d, 1d } ) {
+            Assertions.assertEquals( durations.getQuantileMicros( quantile ), firstHalf.getQuantileMicros( quantile ) );
+        }
+        Assertions.assertEquals( durations.getTotalMicros(), firstHalf.getTotalMicros() );
+        // no durations
+        Assertions.assertEquals( 0L, new DurationSketch().getQuantileMicros( 0.5d ) );
+        Assertions.assertEquals( BigDecimal.ZERO.setScale( 3 ), new TestStats().getMeanTime() );
+    }
+
+    @Test
+    void testAddTest() {
+        TestStats stats = new TestStats();
+        stats.add( ExecutedTest.of( "com.example.ATest", "test1", false, true, false, "0.100" ) );
+        stats.add( ExecutedTest.of( "com.example.ATest", "test2", true, false, false, "0" ) );
+        TestStats other = new TestStats();
+        other.add( ExecutedTest.of( "com.example.BTest", "test1", false, false, true, "0.300" ) );
+        stats.merge( other );
+        Assertions.assertEquals( 3, stats.getTotal() );
+        Assertions.assertEquals( 1, stats.getFailed() );
+        Assertions.assertEquals( 1, stats.getErrors() );
+        Assertions.assertEquals( 1, stats.getSkipped() );
+        Assertions.assertEquals( new BigDecimal( "0.400" ), stats.getTotalTime() );
+        Assertions.assertEquals( new BigDecimal( "0.300" ), stats.getMaxTime() );
+        // the skipped test has no duration
+        Assertions.assertEquals( 0L, stats.getDurations().getQuantileMicros( 0.3d ) );
+    }
+
+}
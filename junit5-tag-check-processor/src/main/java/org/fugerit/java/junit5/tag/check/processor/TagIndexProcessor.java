@@ -0,0 +1,172 @@
+package org.fugerit.java.junit5.tag.check.processor;
+
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.fugerit.java.junit5.tag.check.core.TagIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor writing the tag index ({@link TagIndex#RESOURCE_PATH}) of the compiled test classes.
+ *
+ * The processor is registered as a service, the junit5-tag-check-processor artifact must be added
+ * to the annotation processor path of the 'default-testCompile' execution of the maven-compiler-plugin (see README).
+ *
+ * Entries of an existing index are kept, so that incremental compilation does not lose the classes not recompiled.
+ */
+public class TagIndexProcessor extends AbstractProcessor {
+
+    private static final String TAG = "org.junit.jupiter.api.Tag";
+
+    private static final String TAGS = "org.junit.jupiter.api.Tags";
+
+    private final Map<String, ClassTagInfo> index = new LinkedHashMap<>();
+
+    private boolean existingIndexLoaded = false;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Filer filer = this.processingEnv.getFiler();
+        if (!this.existingIndexLoaded) {
+            this.loadExistingIndex(filer);
+            this.existingIndexLoaded = true;
+        }
+        if (roundEnv.processingOver()) {
+            this.writeIndex(filer);
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                this.addType(element);
+            }
+        }
+        // annotations are not claimed, other processors will still see them
+        return false;
+    }
+
+    private void addType(Element element) {
+        if (element.getKind().isClass() && element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            Elements elements = this.processingEnv.getElementUtils();
+            Map<String, List<String>> methodTags = new LinkedHashMap<>();
+            for (Element enclosed : type.getEnclosedElements()) {
+                if (enclosed.getKind() == ElementKind.METHOD) {
+                    String methodName = ((ExecutableElement) enclosed).getSimpleName().toString();
+                    if (!methodTags.containsKey(methodName)) {
+                        methodTags.put(methodName, getTags(enclosed));
+                    }
+                }
+            }
+            String className = elements.getBinaryName(type).toString();
+            this.index.put(className, new ClassTagInfo(className, this.getSuperClassName(type), getTags(type), methodTags));
+        }
+        // nested classes
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind().isClass()) {
+                this.addType(enclosed);
+            }
+        }
+    }
+
+    private String getSuperClassName(TypeElement type) {
+        TypeMirror superClass = type.getSuperclass();
+        if (superClass.getKind() == TypeKind.DECLARED) {
+            TypeElement superType = (TypeElement) ((DeclaredType) superClass).asElement();
+            String superClassName = this.processingEnv.getElementUtils().getBinaryName(superType).toString();
+            return Object.class.getName().equals(superClassName) ? null : superClassName;
+        }
+        return null;
+    }
+
+    private static List<String> getTags(Element element) {
+        List<String> tags = new ArrayList<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationType = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (TAG.equals(annotationType)) {
+                addTag(annotation, tags);
+            } else if (TAGS.equals(annotationType)) {
+                for (AnnotationValue value : getValues(annotation)) {
+                    addTag((AnnotationMirror) value.getValue(), tags);
+                }
+            }
+        }
+        return tags;
+    }
+
+    private static void addTag(AnnotationMirror tagAnnotation, List<String> tags) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : tagAnnotation.getElementValues().entrySet()) {
+            if ("value".contentEquals(entry.getKey().getSimpleName())) {
+                tags.add(String.valueOf(entry.getValue().getValue()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> getValues(AnnotationMirror tagsAnnotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : tagsAnnotation.getElementValues().entrySet()) {
+            if ("value".contentEquals(entry.getKey().getSimpleName())) {
+                return (List<? extends AnnotationValue>) entry.getValue().getValue();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private void loadExistingIndex(Filer filer) {
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", TagIndex.RESOURCE_PATH);
+            try (Reader reader = new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8)) {
+                this.index.putAll(TagIndex.read(reader));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no previous index (full compilation)
+        }
+    }
+
+    private void writeIndex(Filer filer) {
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", TagIndex.RESOURCE_PATH);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                TagIndex.write(writer, this.index.values());
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write tag index " + TagIndex.RESOURCE_PATH + " : " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.fugerit.java.junit5.tag.check;
+
+import org.fugerit.java.junit5.tag.check.core.ClassTagInfo;
+import org.fugerit.java.junit5.tag.check.core.TagIndex;
+import org.fugerit.java.junit5.tag.check.processor.TagIndexProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+class TagIndexProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File writeSource( File sourceDirectory, String className, String... lines ) throws IOException {
+        File sourceFile = new File( sourceDirectory, className.replace( '.', '/' ) + ".java" );
+        sourceFile.getParentFile().mkdirs();
+        Files.write( sourceFile.toPath(), Arrays.asList( lines ), StandardCharsets.UTF_8 );
+        return sourceFile;
+    }
+
+    private void compile( File outputDirectory, File... sourceFiles ) throws IOException, URISyntaxException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assertions.assertNotNull( compiler, "a JDK is needed to run the annotation processor" );
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        File junitApi = new File( Tag.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( diagnostics, Locale.ROOT, StandardCharsets.UTF_8 ) ) {
+            // same as the maven-compiler-plugin : the output directory is on the classpath of the incremental compilation
+            List<String> options = Arrays.asList( "-d", outputDirectory.getAbsolutePath(),
+                    "-classpath", outputDirectory.getAbsolutePath() + File.pathSeparator + junitApi.getAbsolutePath() );
+            JavaCompiler.CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects( sourceFiles ) );
+            task.setProcessors( Collections.singletonList( new TagIndexProcessor() ) );
+            Assertions.assertTrue( task.call(), () -> diagnostics.getDiagnostics().toString() );
+        }
+    }
+
+    private Map<String, ClassTagInfo> readIndex( File outputDirectory ) throws IOException {
+        try ( Reader reader = new InputStreamReader( new FileInputStream( new File( outputDirectory, TagIndex.RESOURCE_PATH ) ), StandardCharsets.UTF_8 ) ) {
+            return TagIndex.read( reader );
+        }
+    }
+
+    @Test
+    void testProcessorService() {
+        boolean found = false;
+        for ( Processor processor : ServiceLoader.load( Processor.class ) ) {
+            found = found || processor instanceof TagIndexProcessor;
+        }
+        Assertions.assertTrue( found );
+    }
+
+    @Test
+    void testIndexAndIncrementalCompile() throws IOException, URISyntaxException {
+        File sourceDirectory = tempDir.resolve( "src" ).toFile();
+        File outputDirectory = tempDir.resolve( "classes" ).toFile();
+        outputDirectory.mkdirs();
+        File baseTest = writeSource( sourceDirectory, "acme.BaseTest",
+                "package acme;",
+                "import org.junit.jupiter.api.Tag;",
+                "@Tag(\"base\")",
+                "public abstract class BaseTest {",
+                "    @Tag(\"fast\") public void testBase() {}",
+                "}" );
+        File tagTest = writeSource( sourceDirectory, "acme.TagTest",
+                "package acme;",
+                "import org.junit.jupiter.api.Tag;",
+                "import org.junit.jupiter.api.Tags;",
+                "@Tag(\"security\")",
+                "public class TagTest extends BaseTest {",
+                "    @Tags({ @Tag(\"fast\"), @Tag(\"db\") }) public void testA() {}",
+                "    public void testB() {}",
+                "    @Tag(\"inner\") public class Inner {",
+                "        public void testC() {}",
+                "    }",
+                "}" );
+        // full compilation
+        compile( outputDirectory, baseTest, tagTest );
+        Map<String, ClassTagInfo> index = readIndex( outputDirectory );
+        Assertions.assertEquals( new HashSet<>( Arrays.asList( "acme.BaseTest", "acme.TagTest", "acme.TagTest$Inner" ) ), index.keySet() );
+        ClassTagInfo tagTestInfo = index.get( "acme.TagTest" );
+        Assertions.assertEquals( "acme.BaseTest", tagTestInfo.getSuperClassName() );
+        Assertions.assertEquals( Collections.singletonList( "security" ), tagTestInfo.getClassTags() );
+        Assertions.assertEquals( Arrays.asList( "fast", "db" ), tagTestInfo.getMethodTags().get( "testA" ) );
+        Assertions.assertTrue( tagTestInfo.getMethodTags().get( "testB" ).isEmpty() );
+        Assertions.assertNull( index.get( "acme.BaseTest" ).getSuperClassName() );
+        Assertions.assertEquals( Collections.singletonList( "inner" ), index.get( "acme.TagTest$Inner" ).getClassTags() );
+        // incremental compilation, only the changed class is compiled again
+        tagTest = writeSource( sourceDirectory, "acme.TagTest",
+                "package acme;",
+                "import org.junit.jupiter.api.Tag;",
+                "public class TagTest extends BaseTest {",
+                "    @Tag(\"slow\") public void testA() {}",
+                "}" );
+        compile( outputDirectory, tagTest );
+        index = readIndex( outputDirectory );
+        Assertions.assertTrue( index.containsKey( "acme.BaseTest" ) );
+        Assertions.assertEquals( Collections.singletonList( "base" ), index.get( "acme.BaseTest" ).getClassTags() );
+        tagTestInfo = index.get( "acme.TagTest" );
+        Assertions.assertTrue( tagTestInfo.getClassTags().isEmpty() );
+        Assertions.assertEquals( Collections.singletonList( "slow" ), tagTestInfo.getMethodTags().get( "testA" ) );
+        Assertions.assertFalse( tagTestInfo.getMethodTags().containsKey( "testB" ) );
+    }
+
+}